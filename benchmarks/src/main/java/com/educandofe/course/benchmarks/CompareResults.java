@@ -0,0 +1,104 @@
+package com.educandofe.course.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara dois resultados JSON do JMH (versão anterior x atual) e sai com
+ * código 1 se algum benchmark piorou mais que o limite.
+ *
+ * java -cp benchmarks/target/benchmarks.jar com.educandofe.course.benchmarks.CompareResults \
+ *     anterior.json atual.json [limite% = 10]
+ *
+ * Só entram na conta diferenças maiores que a soma das margens de erro das
+ * duas medições; benchmarks que existem em um lado só são listados à parte.
+ */
+public final class CompareResults {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: CompareResults <anterior.json> <atual.json> [limite%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "anterior", "atual", "variação");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14s %9s%n", entry.getKey(), "-", after.format(), "novo");
+                continue;
+            }
+
+            // Positivo = pior, seja o modo tempo médio (menor é melhor) ou vazão (maior é melhor)
+            double change = (after.value - before.value) / before.value * 100.0;
+            if (after.higherIsBetter) {
+                change = -change;
+            }
+            boolean significant = Math.abs(after.value - before.value) > before.error + after.error;
+            boolean regression = significant && change > threshold;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14s %14s %+8.1f%%%s%n", entry.getKey(), before.format(), after.format(),
+                change, regression ? "  REGRESSÃO" : "");
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("%-70s %14s %14s %9s%n", name, baseline.get(name).format(), "-", "removido");
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) pioraram mais de %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            JsonNode metric = run.path("primaryMetric");
+            // Com uma iteração só o JMH grava "NaN" como margem de erro
+            double error = metric.path("scoreError").asDouble(0);
+            scores.put(key(run), new Score(
+                metric.path("score").asDouble(),
+                Double.isNaN(error) ? 0 : error,
+                metric.path("scoreUnit").asText(),
+                "thrpt".equals(run.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    // Nome do benchmark sem o pacote, mais os @Param em ordem
+    private static String key(JsonNode run) {
+        String name = run.path("benchmark").asText();
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+
+        Map<String, String> params = new LinkedHashMap<>();
+        run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        return params.isEmpty() ? name : name + params;
+    }
+
+    private record Score(double value, double error, String unit, boolean higherIsBetter) {
+        String format() {
+            return String.format("%.2f %s", value, unit);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.educandofe.course.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.services.common.FieldCopier;
+
+/**
+ * Compara o updateData reflexivo antigo (getDeclaredFields + Field.get/set a cada
+ * chamada) com o FieldCopier, que monta os acessores uma vez só.
+ * Rodar com: java -jar benchmarks/target/benchmarks.jar FieldCopierBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldCopierBenchmark {
+
+    private static final FieldCopier<ProductModel> PRODUCT_COPIER =
+        FieldCopier.of(ProductModel.class, "id", "categories", "items", "imageVariants");
+    private static final FieldCopier<UserModel> USER_COPIER =
+        FieldCopier.of(UserModel.class, "id", "password", "orders");
+
+    private ProductModel productPatch;
+    private ProductModel productEntity;
+    private UserModel userPatch;
+    private UserModel userEntity;
+
+    @Setup
+    public void setup() {
+        productEntity = new ProductModel(1L, "Caderno", "Capa dura", 25.0, "/uploads/products/a.jpg");
+        productPatch = new ProductModel(null, "Caderno 200 folhas", null, 29.9, null);
+
+        userEntity = new UserModel(1L, "Maria", "maria@email.com", "11999999999", "hash",
+            "Loja", "1990-01-01", "Rua A", "10", "Centro", null, "São Paulo", "SP", "01000-000");
+        userPatch = new UserModel(null, "Maria Silva", null, "11988888888", null,
+            null, null, "Rua B", "20", null, "Apto 3", null, null, null);
+    }
+
+    @Benchmark
+    public ProductModel productReflective() {
+        reflectiveCopy(ProductModel.class, productEntity, productPatch,
+            "id", "categories", "orderItems", "serialVersionUID");
+        return productEntity;
+    }
+
+    @Benchmark
+    public ProductModel productCopier() {
+        PRODUCT_COPIER.copyNonNull(productPatch, productEntity);
+        return productEntity;
+    }
+
+    @Benchmark
+    public UserModel userReflective() {
+        reflectiveCopy(UserModel.class, userEntity, userPatch,
+            "id", "password", "orders", "serialVersionUID");
+        return userEntity;
+    }
+
+    @Benchmark
+    public UserModel userCopier() {
+        USER_COPIER.copyNonNull(userPatch, userEntity);
+        return userEntity;
+    }
+
+    // Implementação antiga de ProductService/UserService.updateData, sem os prints
+    private static <T> void reflectiveCopy(Class<T> type, T entity, T source, String... ignored) {
+        if (source == null) return;
+
+        Set<String> ignoredFields = new HashSet<>(Arrays.asList(ignored));
+
+        for (Field field : type.getDeclaredFields()) {
+            if (ignoredFields.contains(field.getName())) {
+                continue;
+            }
+
+            field.setAccessible(true);
+            try {
+                Object newValue = field.get(source);
+                if (newValue != null) {
+                    field.set(entity, newValue);
+                }
+            } catch (IllegalAccessException e) {
+                System.err.println("Erro ao acessar campo: " + field.getName());
+            }
+        }
+    }
+
+}
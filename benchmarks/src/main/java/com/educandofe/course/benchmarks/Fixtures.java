@@ -0,0 +1,105 @@
+package com.educandofe.course.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.Model.common.Enums.OrderStatus;
+import com.educandofe.course.Model.order.OrderItemModel;
+import com.educandofe.course.Model.order.OrderModel;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.Model.user.UserModel;
+
+/**
+ * Dados de entrada dos benchmarks.
+ *
+ * Tudo sai de uma semente fixa e de datas fixas: a mesma chamada gera sempre
+ * os mesmos objetos, então resultados de versões diferentes são comparáveis.
+ */
+public final class Fixtures {
+
+    public static final long SEED = 20240115L;
+    public static final LocalDateTime MOMENT = LocalDateTime.of(2024, 1, 15, 10, 30);
+    public static final String PASSWORD = "Senha123";
+
+    // Hashes de PASSWORD gerados uma vez (o salt não muda o custo, só evita variar entre execuções)
+    public static final String PASSWORD_HASH_10 = "$2a$10$2lP4gkk6plPXLBX1oZySwewVtw70wClnqMhB7YzdfduHxtkyz7JoG";
+    public static final String PASSWORD_HASH_12 = "$2a$12$MZyS/leEVwnKuJNYuRqaluvTsetPQ0yBQqpQae.KvJ001RW1rEwd6";
+
+    private static final String[] CATEGORY_NAMES = {"Perfumes", "Masculino", "Feminino"};
+    private static final String[] WORDS = {"Floratta", "Malbec", "Egeo", "Lily", "Quasar", "Coffee",
+        "Zaad", "Arbo", "Glamour", "Intense", "Eau de Parfum", "Desodorante Colônia"};
+
+    private Fixtures() {
+    }
+
+    public static String passwordHash(int strength) {
+        return switch (strength) {
+            case 10 -> PASSWORD_HASH_10;
+            case 12 -> PASSWORD_HASH_12;
+            default -> throw new IllegalArgumentException("Sem hash fixo para strength " + strength);
+        };
+    }
+
+    public static List<CategoryModel> categories() {
+        List<CategoryModel> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_NAMES.length; i++) {
+            categories.add(new CategoryModel((long) i + 1, CATEGORY_NAMES[i]));
+        }
+        return categories;
+    }
+
+    /**
+     * Produtos no formato do catálogo (TesteConfig): nome, descrição, preço,
+     * imagem e uma ou duas categorias
+     */
+    public static List<ProductModel> products(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<CategoryModel> categories = categories();
+        List<ProductModel> products = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + (i + 1);
+            String description = "Fragrância " + WORDS[random.nextInt(WORDS.length)].toLowerCase()
+                + " com notas de " + WORDS[random.nextInt(WORDS.length)].toLowerCase() + ", "
+                + (random.nextInt(5, 20) * 10) + " ml.";
+            double price = Math.round(random.nextDouble(29.9, 399.9) * 100) / 100.0;
+            ProductModel product = new ProductModel((long) i + 1, name, description, price,
+                "/uploads/products/produto-" + (i + 1) + ".jpg");
+
+            product.getCategories().add(categories.get(0));
+            if (random.nextBoolean()) {
+                product.getCategories().add(categories.get(1 + random.nextInt(2)));
+            }
+            products.add(product);
+        }
+        return products;
+    }
+
+    public static UserModel user() {
+        return new UserModel(1L, "Maria Oliveira", "maria@gmail.com", "(11) 98876-5432", PASSWORD_HASH_10,
+            "Perfumes da Maria", "1990-07-22", "Av. Paulista", "1000", "Bela Vista", "Sala 12",
+            "São Paulo", "SP", "01310-100");
+    }
+
+    /**
+     * Pedido pago com {@code itemCount} itens de produtos distintos
+     */
+    public static OrderModel order(int itemCount) {
+        SplittableRandom random = new SplittableRandom(SEED + itemCount);
+        OrderModel order = new OrderModel(1L, MOMENT, OrderStatus.PAID, user());
+        for (ProductModel product : products(itemCount)) {
+            order.getItems().add(new OrderItemModel(order, product, 1 + random.nextInt(4), product.getPrice()));
+        }
+        return order;
+    }
+
+    /**
+     * Atualização parcial típica do painel: nome e preço, o resto nulo
+     */
+    public static ProductModel productPatch(long id) {
+        return new ProductModel(id, "Floratta Rose 75 ml", null, 149.9, null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.educandofe.course.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.educandofe.course.services.common.JsonPrecompressor;
+import com.educandofe.course.services.common.PrecompressedJson;
+
+/**
+ * CPU de comprimir o JSON de GET /products x bytes economizados.
+ *
+ * compress mede uma compressão por operação, como seria comprimir a cada
+ * requisição (gzip-6 é o que o Tomcat faz com server.compression). precompressed
+ * mede o caminho atual: o corpo já comprimido sai do cache e só se negocia a
+ * codificação. O tamanho de cada codificação sai no fim de cada trial
+ * ("bytes:"), para pôr ao lado do tempo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCompressionBenchmark {
+
+    @Param({"22", "200"})
+    public int productCount;
+
+    @Param({"gzip-1", "gzip-6", "gzip-9", "br-5", "br-9", "br-11"})
+    public String encoding;
+
+    private byte[] json;
+    private int level;
+    private Encoder.Parameters brotli;
+    private PrecompressedJson precompressed;
+    private int compressedBytes;
+
+    @Setup
+    public void setup() throws Exception {
+        json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(Fixtures.products(productCount));
+        level = Integer.parseInt(encoding.substring(encoding.indexOf('-') + 1));
+        Brotli4jLoader.ensureAvailability();
+        if (encoding.startsWith("br")) {
+            brotli = new Encoder.Parameters().setQuality(level).setMode(Encoder.Mode.TEXT);
+        }
+        precompressed = new PrecompressedJson(json, JsonPrecompressor.gzip(json, 9),
+            Encoder.compress(json, new Encoder.Parameters().setQuality(9).setMode(Encoder.Mode.TEXT)));
+        compressedBytes = compress().length;
+    }
+
+    @Benchmark
+    public byte[] compress() throws Exception {
+        return brotli != null ? Encoder.compress(json, brotli) : JsonPrecompressor.gzip(json, level);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> precompressed() {
+        return precompressed.toResponse(brotli != null ? "gzip, deflate, br" : "gzip");
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%nbytes: %d produtos, %s: %d -> %d (%.1f%% economizado)%n", productCount, encoding,
+            json.length, compressedBytes, 100.0 * (json.length - compressedBytes) / json.length);
+    }
+}
@@ -0,0 +1,51 @@
+package com.educandofe.course.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.educandofe.course.Model.order.OrderModel;
+import com.educandofe.course.dto.order.OrderResponseDTO;
+
+/**
+ * Montagem da resposta de um pedido a partir da entidade (OrderResponseDTO(OrderModel))
+ * e o total calculado sobre os itens (OrderModel.getTotal), por tamanho de pedido.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private OrderModel order;
+
+    @Setup
+    public void setup() {
+        order = Fixtures.order(itemCount);
+    }
+
+    @Benchmark
+    public OrderResponseDTO toResponse() {
+        return new OrderResponseDTO(order);
+    }
+
+    @Benchmark
+    public Double total() {
+        return order.getTotal();
+    }
+}
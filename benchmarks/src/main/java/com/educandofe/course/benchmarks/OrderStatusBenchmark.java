@@ -0,0 +1,39 @@
+package com.educandofe.course.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.educandofe.course.Model.common.Enums.OrderStatus;
+
+/**
+ * OrderStatus.valueOf(int), chamado a cada pedido lido do banco.
+ * Percorre os códigos em sequência para não favorecer o primeiro status.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderStatusBenchmark {
+
+    private static final int[] CODES = {1, 2, 3, 4, 5};
+
+    private int next;
+
+    @Benchmark
+    public OrderStatus valueOf() {
+        int code = CODES[next];
+        next = next == CODES.length - 1 ? 0 : next + 1;
+        return OrderStatus.valueOf(code);
+    }
+}
@@ -0,0 +1,59 @@
+package com.educandofe.course.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.educandofe.course.security.PasswordEncoder;
+import com.educandofe.course.security.PasswordHashExecutor;
+
+/**
+ * PasswordEncoder.matches (login) por strength do BCrypt, passando pelo
+ * pool de hash como na aplicação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private PasswordHashExecutor hashExecutor;
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        hashExecutor = new PasswordHashExecutor(1, 16, 60_000);
+        passwordEncoder = new PasswordEncoder(hashExecutor, strength);
+        hash = Fixtures.passwordHash(strength);
+        if (!passwordEncoder.matches(Fixtures.PASSWORD, hash)) {
+            throw new IllegalStateException("Hash fixo não confere com a senha das fixtures");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        hashExecutor.shutdown();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(Fixtures.PASSWORD, hash);
+    }
+}
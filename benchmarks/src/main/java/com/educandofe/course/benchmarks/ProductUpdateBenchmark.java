@@ -0,0 +1,67 @@
+package com.educandofe.course.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.services.product.ProductService;
+
+/**
+ * ProductService.update sem banco: o repositório devolve sempre a mesma
+ * entidade e o save não faz nada, então o que sobra é o updateData (cópia
+ * dos campos não nulos do patch). Sem o proxy do Spring, o cache não entra.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductUpdateBenchmark {
+
+    private ProductService productService;
+    private ProductModel patch;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        ProductModel entity = Fixtures.products(1).get(0);
+        patch = Fixtures.productPatch(entity.getId());
+
+        productService = new ProductService();
+        Field repository = ProductService.class.getDeclaredField("productRepository");
+        repository.setAccessible(true);
+        repository.set(productService, inMemoryRepository(entity));
+    }
+
+    @Benchmark
+    public ProductModel update() {
+        return productService.update(patch);
+    }
+
+    private static ProductRepository inMemoryRepository(ProductModel entity) {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+            new Class<?>[] {ProductRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findById" -> Optional.of(entity);
+                case "save" -> args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "InMemoryProductRepository";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
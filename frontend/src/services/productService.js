@@ -8,6 +8,23 @@ export async function fetchAllProducts() {
   return await api.get('/products')
 }
 
+/**
+ * Busca uma página do catálogo (paginação por cursor no servidor)
+ * @param {Object} params - Parâmetros da página
+ * @param {number} params.limit - Quantidade de produtos por página
+ * @param {string} [params.sort] - relevance | price-asc | price-desc | name | name-desc
+ * @param {number} [params.category] - ID da categoria
+ * @param {string} [params.cursor] - nextCursor da página anterior
+ * @returns {Promise<Object>} { content, nextCursor, hasNext, size }
+ */
+export async function fetchProductsPage({ limit, sort, category, cursor }) {
+  const params = new URLSearchParams({ limit: String(limit) })
+  if (sort) params.append('sort', sort)
+  if (category) params.append('category', String(category))
+  if (cursor) params.append('cursor', cursor)
+  return await api.get(`/products?${params.toString()}`)
+}
+
 /**
  * Busca um produto específico por ID
  * @param {number} id - ID do produto
@@ -37,6 +54,7 @@ export const getProductsByCategory = fetchProductsByCategory
 
 export default {
   fetchAllProducts,
+  fetchProductsPage,
   fetchProductById,
   fetchProductsByCategory,
   getProducts,
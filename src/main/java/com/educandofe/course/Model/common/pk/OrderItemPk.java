@@ -1,5 +1,9 @@
 package com.educandofe.course.Model.common.pk;
 import java.io.Serializable;
+
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.JoinColumn;
 
@@ -16,7 +20,10 @@ public class OrderItemPk implements Serializable {
     @JoinColumn(name = "order_id")
     private OrderModel order;
 
+    // Select por ID em vez de join: o produto sai do cache de segundo nível
+    // (catalog-product) e só as faltas vão ao banco, em lote
     @ManyToOne
+    @Fetch(FetchMode.SELECT)
     @JoinColumn(name = "product_id")
     private ProductModel product;
 
@@ -3,8 +3,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.io.Serializable;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToOne;
@@ -14,8 +12,8 @@ import com.educandofe.course.Model.order.OrderModel;
 @Entity
 public class PaymentsModel implements Serializable {
 
+    // ID derivado do pedido (@MapsId), não é gerado
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private LocalDateTime moment;
 
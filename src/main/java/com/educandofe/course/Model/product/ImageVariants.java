@@ -0,0 +1,62 @@
+package com.educandofe.course.Model.product;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * URLs das versões reduzidas da imagem do produto, geradas pelo
+ * ImageVariantService depois do upload: thumbnail (160 px de largura),
+ * card (480 px) e detail (1024 px). Quando a original já é mais estreita
+ * que o tamanho, a URL é a da própria original.
+ *
+ * Nulo enquanto as versões não ficam prontas (ou para imagens sem upload,
+ * como URLs externas): o frontend usa imgUrl.
+ */
+@Embeddable
+public class ImageVariants implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "img_thumbnail_url")
+    private String thumbnail;
+
+    @Column(name = "img_card_url")
+    private String card;
+
+    @Column(name = "img_detail_url")
+    private String detail;
+
+    public ImageVariants() {
+    }
+
+    public ImageVariants(String thumbnail, String card, String detail) {
+        this.thumbnail = thumbnail;
+        this.card = card;
+        this.detail = detail;
+    }
+
+    public String getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public String getCard() {
+        return card;
+    }
+
+    public void setCard(String card) {
+        this.card = card;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+}
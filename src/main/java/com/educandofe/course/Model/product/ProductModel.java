@@ -1,10 +1,17 @@
 package com.educandofe.course.Model.product;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.Index;
 import java.io.Serializable;
 import java.util.Set;
 
@@ -21,23 +28,41 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.JoinColumn;
 
 @Entity
-@Table(name = "tb_product")
+@Table(name = "tb_product", indexes = {
+    // Índices usados pela paginação por cursor do catálogo
+    @Index(name = "idx_product_price_id", columnList = "price, id"),
+    @Index(name = "idx_product_name_id", columnList = "name, id"),
+    // Referências das imagens (ImageSweeper), ver db/migration/V3__image_reference_indexes.sql
+    @Index(name = "idx_product_img_url", columnList = "img_url")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+// Cache de segundo nível (hibernate-cache.conf): findById e o produto de cada
+// item de pedido saem da memória; escritas pelo Hibernate atualizam a entrada
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog-product")
 public class ProductModel implements Serializable {
     private static final long serialVersionUID = 1L;
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "tb_product_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String description;
     private Double price;
     private String imgUrl;
 
+    // Versões reduzidas de imgUrl (ImageVariantService), ver db/migration/V4__product_image_variants.sql
+    @Embedded
+    private ImageVariants imageVariants;
+
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog-product-categories")
     @JoinTable(name = "tb_product_category",
         joinColumns = @JoinColumn(name = "product_id"),
-        inverseJoinColumns = @JoinColumn(name = "category_id"))
+        inverseJoinColumns = @JoinColumn(name = "category_id"),
+        // A PK gerada é (category_id, product_id); este índice cobre o lado produto -> categorias
+        indexes = @Index(name = "idx_product_category_product", columnList = "product_id, category_id"))
     private Set<CategoryModel> categories = new HashSet<>();
 
     @OneToMany(mappedBy = "id.product")
@@ -94,6 +119,14 @@ public class ProductModel implements Serializable {
         this.imgUrl = imgUrl;
     }
 
+    public ImageVariants getImageVariants() {
+        return imageVariants;
+    }
+
+    public void setImageVariants(ImageVariants imageVariants) {
+        this.imageVariants = imageVariants;
+    }
+
     public Set<CategoryModel> getCategories() {
         return categories;
     }
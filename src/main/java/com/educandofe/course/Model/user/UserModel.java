@@ -11,18 +11,26 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
 
 @Entity
-@Table(name = "tb_user")
+@Table(name = "tb_user", indexes = {
+    // Ver db/migration/V2__lookup_indexes.sql
+    @Index(name = "uk_user_email", columnList = "email", unique = true),
+    // Ver db/migration/V3__image_reference_indexes.sql
+    @Index(name = "idx_user_profile_image", columnList = "profile_image")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class UserModel implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "tb_user_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -0,0 +1,16 @@
+package com.educandofe.course.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Habilita @Async (hoje: PasswordRehashWriter, a gravação do rehash depois do
+ * login). Os métodos assíncronos usam o executor padrão do Spring Boot
+ * (applicationTaskExecutor), que segue spring.threads.virtual.enabled: com
+ * virtual threads cada tarefa ganha a sua; sem, vai para o pool fixo
+ * (spring.task.execution.pool.*).
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,22 @@
+package com.educandofe.course.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache em memória do catálogo (Caffeine).
+ * Tamanho máximo e TTL ficam em spring.cache.caffeine.spec (application.properties).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Produtos por ID (ProductService.findById) */
+    public static final String PRODUCTS = "products";
+
+    /** GET /products já serializado e comprimido (ProductService.findAllJson) */
+    public static final String PRODUCT_LIST_JSON = "productListJson";
+
+    /** GET /categories já serializado e comprimido (CategoryService.findAllJson) */
+    public static final String CATEGORIES_JSON = "categoriesJson";
+}
@@ -0,0 +1,69 @@
+package com.educandofe.course.config;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Faz valer o server.compression.min-response-size nas respostas JSON.
+ *
+ * O Tomcat só compara o tamanho com o limite quando há Content-Length; o
+ * Jackson escreve em streaming, sem ele, e aí o Tomcat comprime tudo, até
+ * um {"id":1}. Aqui a resposta é montada em memória e sai com Content-Length.
+ * Só para quem aceita compressão, e nunca em /uploads (imagens grandes, já
+ * comprimidas, servidas pelo ResourceHttpRequestHandler) nem no GET de
+ * /products e /categories, que já saem comprimidos do cache e com tamanho.
+ */
+@Component
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding == null || acceptEncoding.isBlank()
+            || request.getRequestURI().startsWith(request.getContextPath() + "/uploads/")
+            || isPrecompressed(request);
+    }
+
+    private static boolean isPrecompressed(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // Com limit é a paginação por cursor, serializada pelo Jackson
+        return path.equals("/categories")
+            || (path.equals("/products") && request.getParameter("limit") == null);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered =
+            WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (buffered == null) {
+            buffered = new ContentCachingResponseWrapper(response);
+        }
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            if (!isAsyncStarted(request)) {
+                // Define o Content-Length antes de o Tomcat decidir se comprime
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+}
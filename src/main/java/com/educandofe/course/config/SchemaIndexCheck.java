@@ -0,0 +1,143 @@
+package com.educandofe.course.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Confere, na subida, se os índices das consultas mais frequentes existem no banco.
+ *
+ * Os índices são criados pelas migrações (db/migration); se alguma não rodou,
+ * ou o banco foi criado por fora, loga um aviso com o que falta. Um índice
+ * conta quando começa pelas colunas esperadas, na mesma ordem (PK inclusive).
+ * No PostgreSQL também avisa de índices INVALID, que sobram de um CREATE INDEX
+ * CONCURRENTLY que falhou: existem no catálogo, mas não são usados nem garantem
+ * unicidade.
+ */
+@Component
+public class SchemaIndexCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaIndexCheck.class);
+
+    // Tabela -> colunas iniciais do índice esperado
+    private static final String[][] EXPECTED_INDEXES = {
+        {"tb_user", "email"},
+        {"tb_order", "client_id"},
+        {"tb_order", "moment"},
+        {"tb_product_category", "product_id"},
+        {"tb_product_category", "category_id"},
+        {"tb_product", "img_url"},
+        {"tb_user", "profile_image"},
+        {"tb_product", "price", "id"},
+        {"tb_product", "name", "id"},
+    };
+
+    @Autowired
+    private DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndexes() {
+        try (Connection connection = dataSource.getConnection()) {
+            List<String> missing = findMissingIndexes(connection.getMetaData());
+            if (missing.isEmpty()) {
+                log.info("Índices esperados presentes ({})", EXPECTED_INDEXES.length);
+            } else {
+                log.warn("Índices ausentes: {}. Verifique se as migrações do Flyway (db/migration) foram aplicadas", missing);
+            }
+            List<String> invalid = findInvalidIndexes(connection);
+            if (!invalid.isEmpty()) {
+                log.warn("Índices inválidos (CREATE INDEX CONCURRENTLY que falhou): {}. "
+                    + "Resolva a causa, rode flyway repair e suba de novo", invalid);
+            }
+        } catch (SQLException e) {
+            log.warn("Não foi possível verificar os índices do banco", e);
+        }
+    }
+
+    /**
+     * @return Índices esperados sem nenhum índice correspondente, no formato tabela(colunas)
+     */
+    List<String> findMissingIndexes(DatabaseMetaData metaData) throws SQLException {
+        Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String[] expected : EXPECTED_INDEXES) {
+            String table = expected[0];
+            List<List<String>> indexes = indexesByTable.get(table);
+            if (indexes == null) {
+                indexes = readIndexes(metaData, table);
+                indexesByTable.put(table, indexes);
+            }
+
+            List<String> columns = List.of(expected).subList(1, expected.length);
+            boolean covered = indexes.stream().anyMatch(index ->
+                index.size() >= columns.size() && index.subList(0, columns.size()).equals(columns));
+            if (!covered) {
+                missing.add(table + "(" + String.join(", ", columns) + ")");
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * @return Nomes dos índices marcados como inválidos no esquema atual (só PostgreSQL)
+     */
+    List<String> findInvalidIndexes(Connection connection) throws SQLException {
+        List<String> invalid = new ArrayList<>();
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return invalid;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                 "select c.relname from pg_index i"
+                 + " join pg_class c on c.oid = i.indexrelid"
+                 + " join pg_namespace n on n.oid = c.relnamespace"
+                 + " where not i.indisvalid and n.nspname = current_schema()")) {
+            while (rs.next()) {
+                invalid.add(rs.getString(1));
+            }
+        }
+        return invalid;
+    }
+
+    // Colunas de cada índice da tabela, em ordem
+    private static List<List<String>> readIndexes(DatabaseMetaData metaData, String table) throws SQLException {
+        String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, TreeMap<Short, String>> columnsByIndex = new HashMap<>();
+
+        try (ResultSet rs = metaData.getIndexInfo(null, null, name, false, true)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, k -> new TreeMap<>())
+                    .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        List<List<String>> indexes = new ArrayList<>();
+        for (TreeMap<Short, String> columns : columnsByIndex.values()) {
+            indexes.add(new ArrayList<>(columns.values()));
+        }
+        return indexes;
+    }
+}
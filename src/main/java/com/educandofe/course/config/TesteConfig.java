@@ -226,7 +226,7 @@ public class TesteConfig  implements CommandLineRunner {
         OrderItemModel oi4 = new OrderItemModel(o3, p13, 3, p13.getPrice()); // 3x Cuide-se Bem
         OrderItemModel oi5 = new OrderItemModel(o4, p19, 1, p19.getPrice()); // 1x Glamour Secrets
 
-       orderItemRepository.saveAll(Arrays.asList(oi1, oi2, oi3, oi4, oi5));
+       orderItemRepository.persistAll(Arrays.asList(oi1, oi2, oi3, oi4, oi5));
 
        PaymentsModel pay1 = new PaymentsModel(null, LocalDateTime.now().minusDays(9), o1);
        o1.setPayment(pay1);
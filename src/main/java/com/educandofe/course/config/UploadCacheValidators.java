@@ -0,0 +1,137 @@
+package com.educandofe.course.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.educandofe.course.services.upload.ImageStorageService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Cabeçalhos de cache e ETags de /uploads/**.
+ *
+ * uploads/images tem nome pelo conteúdo (SHA-256, ver ImageStorageService): o
+ * arquivo nunca muda, então vai com Cache-Control immutable de um ano e o ETag é
+ * o próprio nome, sem ler nada. As imagens antigas (UUID em uploads/products e
+ * uploads/users) levam uploads.cache.legacy-max-age e um ETag forte calculado do
+ * conteúdo uma vez e guardado em memória.
+ *
+ * Requisição condicional (If-None-Match) com ETag conhecido volta 304 aqui, antes
+ * do ResourceHttpRequestHandler procurar o arquivo: nem stat no disco. O resto
+ * (200, 206 com Range, 404) fica com o handler do Spring.
+ */
+@Component
+public class UploadCacheValidators implements HandlerInterceptor {
+
+    private static final String UPLOADS_PATH = "/uploads/";
+    private static final String STORE_PATH = UPLOADS_PATH + ImageStorageService.STORE + "/";
+
+    // <sha256>.<ext> ou <sha256>-<largura>w.<ext> (versões do ImageVariantService)
+    private static final Pattern CONTENT_NAME = Pattern.compile("([0-9a-f]{64}(?:-\\d+w)?)\\.[a-z]+");
+
+    private final Path root;
+    private final Path store;
+    private final CacheControl immutable = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private final CacheControl legacy;
+    private final Cache<Path, String> legacyEtags;
+
+    public UploadCacheValidators(ImageStorageService storage,
+                                 @Value("${uploads.cache.legacy-max-age:PT1H}") Duration legacyMaxAge,
+                                 @Value("${uploads.cache.etag-entries:10000}") long etagEntries) {
+        this.root = storage.getRoot();
+        this.store = storage.getStore();
+        this.legacy = CacheControl.maxAge(legacyMaxAge).cachePublic();
+        this.legacyEtags = Caffeine.newBuilder().maximumSize(etagEntries).build();
+    }
+
+    /**
+     * Cache-Control dos arquivos com nome pelo conteúdo (uploads/images)
+     */
+    public CacheControl getImmutableCacheControl() {
+        return immutable;
+    }
+
+    /**
+     * Cache-Control das imagens antigas (nome UUID)
+     */
+    public CacheControl getLegacyCacheControl() {
+        return legacy;
+    }
+
+    /**
+     * ETag forte de um arquivo de /uploads (gerador do ResourceHttpRequestHandler)
+     * @param resource Arquivo encontrado pelo handler
+     * @return ETag entre aspas
+     */
+    public String etag(Resource resource) {
+        try {
+            Path file = resource.getFile().toPath().toAbsolutePath().normalize();
+            String etag = contentEtag(file);
+            if (etag != null) {
+                return etag;
+            }
+            return legacyEtags.get(file, UploadCacheValidators::checksumEtag);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(UPLOADS_PATH)) {
+            return true;
+        }
+
+        // Só manipulação de texto: o caminho vira o mesmo Path que o handler resolveria
+        Path file = root.resolve(path.substring(UPLOADS_PATH.length())).normalize();
+        if (!file.startsWith(root)) {
+            return true;
+        }
+        String etag = contentEtag(file);
+        if (etag == null) {
+            etag = legacyEtags.getIfPresent(file);
+        }
+        if (etag == null || !new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+            (path.startsWith(STORE_PATH) ? immutable : legacy).getHeaderValue());
+        return false;
+    }
+
+    private String contentEtag(Path file) {
+        if (!file.startsWith(store)) {
+            return null;
+        }
+        Matcher name = CONTENT_NAME.matcher(file.getFileName().toString());
+        return name.matches() ? "\"" + name.group(1) + "\"" : null;
+    }
+
+    private static String checksumEtag(Path file) {
+        try {
+            return "\"" + ImageStorageService.checksum(file) + "\"";
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.educandofe.course.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import com.educandofe.course.services.upload.ImageStorageService;
+
+import jakarta.servlet.MultipartConfigElement;
+
+/**
+ * Multipart gravado dentro de uploads/ (uploads/.incoming) em vez do /tmp do Tomcat.
+ *
+ * Estando no mesmo disco que uploads/images, o arquivo que o Tomcat já gravou
+ * é renomeado para o lugar (ImageStorageService) em vez de copiado de novo.
+ * spring.servlet.multipart.location, se definido, continua valendo.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class UploadConfig {
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(MultipartProperties properties,
+                                                         ImageStorageService imageStorageService) {
+        if (!StringUtils.hasText(properties.getLocation())) {
+            Path incoming = imageStorageService.getRoot().resolve(ImageStorageService.INCOMING);
+            try {
+                Files.createDirectories(incoming);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Não foi possível criar " + incoming, e);
+            }
+            properties.setLocation(incoming.toString());
+        }
+        return properties.createMultipartConfig();
+    }
+}
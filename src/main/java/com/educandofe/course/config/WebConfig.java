@@ -1,16 +1,68 @@
 package com.educandofe.course.config;
 
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.educandofe.course.services.upload.ImageStorageService;
+
+import jakarta.persistence.EntityManagerFactory;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // Pastas das imagens antigas; o resto de uploads/ (.incoming com os .part e o multipart) não é público
+    private static final String[] LEGACY_FOLDERS = {"products", "users"};
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private UploadCacheValidators uploadCacheValidators;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Servir arquivos de upload
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/");
+        // Servir arquivos de upload (Range e Last-Modified ficam com o ResourceHttpRequestHandler)
+        // Nome pelo conteúdo: nunca muda, cache de um ano
+        registry.addResourceHandler("/uploads/" + ImageStorageService.STORE + "/**")
+                .addResourceLocations(location(imageStorageService.getStore()))
+                .setCacheControl(uploadCacheValidators.getImmutableCacheControl())
+                .setEtagGenerator(uploadCacheValidators::etag);
+        // Imagens antigas (nome UUID)
+        for (String folder : LEGACY_FOLDERS) {
+            registry.addResourceHandler("/uploads/" + folder + "/**")
+                    .addResourceLocations(location(imageStorageService.getRoot().resolve(folder)))
+                    .setCacheControl(uploadCacheValidators.getLegacyCacheControl())
+                    .setEtagGenerator(uploadCacheValidators::etag);
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 304 para If-None-Match conhecido, antes de o handler ir ao disco
+        registry.addInterceptor(uploadCacheValidators)
+                .addPathPatterns("/uploads/**");
+
+        // Open-in-view (spring.jpa.open-in-view=false) só onde a resposta ainda lê associações lazy.
+        // Com ele a conexão fica presa do primeiro SELECT ao fim da requisição; login, cadastro e
+        // troca de senha passariam a espera do BCrypt segurando uma conexão do pool
+        OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+        openInView.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(openInView)
+                .excludePathPatterns("/auth/**", "/users/*/change-password", "/uploads/**");
+    }
+
+    private static String location(Path directory) {
+        // Com a barra no fim mesmo se a pasta ainda não existe (toUri só a põe em pasta existente)
+        String uri = directory.toUri().toString();
+        return uri.endsWith("/") ? uri : uri + "/";
     }
 }
@@ -8,10 +8,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 import com.educandofe.course.Model.user.UserModel;
 import com.educandofe.course.dto.auth.LoginRequest;
 import com.educandofe.course.dto.auth.LoginResponse;
 import com.educandofe.course.dto.auth.SignupRequest;
+import com.educandofe.course.security.LoginRateLimiter;
 import com.educandofe.course.services.interfaces.IAuthService;
 import com.educandofe.course.validation.auth.LoginRequestValidator;
 import com.educandofe.course.validation.auth.SignupRequestValidator;
@@ -24,6 +27,9 @@ public class AuthController {
     @Autowired
     private IAuthService authService;
     
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+    
     @Autowired
     private LoginRequestValidator loginValidator;
     
@@ -35,9 +41,10 @@ public class AuthController {
      * POST /auth/login
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
-        System.out.println("=== Tentativa de login ===");
-        System.out.println("Email: " + request.getEmail());
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // Limite por IP e por email (lança TooManyRequestsException), antes de banco e BCrypt.
+        // Atrás do proxy o remoteAddr já é o IP do cliente (X-Forwarded-For, server.forward-headers-strategy)
+        loginRateLimiter.acquire(request.getEmail(), httpRequest.getRemoteAddr());
         
         // Validar (lança IllegalArgumentException se inválido)
         loginValidator.validate(request);
@@ -50,7 +57,6 @@ public class AuthController {
         
         // Retornar resposta
         LoginResponse response = new LoginResponse(token, user);
-        System.out.println("Login bem-sucedido para: " + user.getEmail());
         
         return ResponseEntity.ok(response);
     }
@@ -61,10 +67,6 @@ public class AuthController {
      */
     @PostMapping("/signup")
     public ResponseEntity<LoginResponse> signup(@RequestBody SignupRequest request) {
-        System.out.println("=== Novo cadastro ===");
-        System.out.println("Nome: " + request.getName());
-        System.out.println("Email: " + request.getEmail());
-        
         // Validar (lança IllegalArgumentException se inválido)
         signupValidator.validate(request);
         
@@ -81,7 +83,6 @@ public class AuthController {
         
         // Retornar resposta
         LoginResponse response = new LoginResponse(token, user);
-        System.out.println("Cadastro bem-sucedido para: " + user.getEmail());
         
         return ResponseEntity.ok(response);
     }
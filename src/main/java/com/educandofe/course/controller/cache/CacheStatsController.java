@@ -0,0 +1,45 @@
+package com.educandofe.course.controller.cache;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.educandofe.course.dto.common.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+@RestController
+@RequestMapping("/manager/cache")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class CacheStatsController {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Contadores de acerto, falha e remoção de cada cache do catálogo
+     * GET /manager/cache/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, CacheStatsResponse>> stats() {
+        Map<String, CacheStatsResponse> response = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats stats = nativeCache.stats();
+                response.put(name, new CacheStatsResponse(nativeCache.estimatedSize(), stats.hitCount(),
+                    stats.missCount(), stats.evictionCount(), stats.hitRate()));
+            }
+        }
+        return ResponseEntity.ok().body(response);
+    }
+}
@@ -1,13 +1,15 @@
 package com.educandofe.course.controller.category;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.services.common.PrecompressedJson;
 import com.educandofe.course.services.interfaces.ICategoryService;
 
 @RestController
@@ -17,10 +19,14 @@ public class CategoryController {
     @Autowired
     private ICategoryService categoryService;
 
+    /**
+     * Lista já serializada e comprimida no cache; só escolhe br, gzip ou sem compressão
+     */
     @GetMapping
-    public ResponseEntity<List<CategoryModel>> findAll() {
-        List<CategoryModel> categories = categoryService.findAll();
-        return ResponseEntity.ok().body(categories);
+    public ResponseEntity<byte[]> findAll(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        PrecompressedJson categories = categoryService.findAllJson();
+        return categories.toResponse(acceptEncoding);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,43 @@
+package com.educandofe.course.controller.monitoring;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.educandofe.course.dto.common.SqlQueryStatsResponse;
+import com.educandofe.course.monitoring.SqlStatementMonitor;
+
+@RestController
+@RequestMapping("/manager/sql")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class SqlStatsController {
+
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
+    /**
+     * Consultas com maior tempo total, com contagem e percentis de latência
+     * GET /manager/sql/stats?limit=20
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<SqlQueryStatsResponse>> stats(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok().body(sqlStatementMonitor.getStats(Math.max(1, limit)));
+    }
+
+    /**
+     * Zera os histogramas
+     * DELETE /manager/sql/stats
+     */
+    @DeleteMapping("/stats")
+    public ResponseEntity<Void> reset() {
+        sqlStatementMonitor.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.educandofe.course.controller.monitoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.educandofe.course.dto.common.ThreadingStatsResponse;
+import com.educandofe.course.monitoring.VirtualThreadPinningMonitor;
+
+@RestController
+@RequestMapping("/manager/threads")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class ThreadingStatsController {
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    /**
+     * Modo de execução (virtual ou platform) e pinagens de virtual threads por ponto do código
+     * GET /manager/threads/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ThreadingStatsResponse> stats() {
+        return ResponseEntity.ok().body(pinningMonitor.getStats());
+    }
+}
@@ -7,18 +7,18 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.educandofe.course.Model.order.OrderModel;
 import com.educandofe.course.dto.order.OrderRequestDTO;
 import com.educandofe.course.dto.order.OrderResponseDTO;
+import com.educandofe.course.security.TokenAuthenticationFilter;
 import com.educandofe.course.services.interfaces.IOrderService;
 
 import jakarta.validation.Valid;
@@ -35,21 +35,18 @@ public class OrderController {
      * Futuramente: adicionar lógica de autenticação e filtro por usuário
      */
     @GetMapping
-    public ResponseEntity<List<OrderResponseDTO>> findAll(@RequestHeader(value = "X-User-Id", required = false) Long userId) {
-        List<OrderModel> orders;
+    public ResponseEntity<List<OrderResponseDTO>> findAll(
+            @RequestAttribute(value = TokenAuthenticationFilter.USER_ID_ATTRIBUTE, required = false) Long userId) {
+        List<OrderResponseDTO> response;
         
         if (userId != null) {
             // Buscar apenas pedidos do usuário autenticado
-            orders = orderService.findByClientId(userId);
+            response = orderService.findSummariesByClientId(userId);
         } else {
             // Buscar todos os pedidos (admin)
-            orders = orderService.findAll();
+            response = orderService.findAllSummaries();
         }
         
-        List<OrderResponseDTO> response = orders.stream()
-            .map(OrderResponseDTO::new)
-            .collect(Collectors.toList());
-        
         return ResponseEntity.ok().body(response);
     }
 
@@ -65,15 +62,13 @@ public class OrderController {
 
     /**
      * Criar um novo pedido
-     * Requer autenticação - userId deve vir do token JWT
-     * Por enquanto, recebe via header X-User-Id
+     * Requer autenticação - userId vem do token validado pelo TokenAuthenticationFilter
      */
     @PostMapping
     public ResponseEntity<OrderResponseDTO> createOrder(
             @Valid @RequestBody OrderRequestDTO orderRequest,
-            @RequestHeader(value = "X-User-Id", required = false) Long userId) {
+            @RequestAttribute(value = TokenAuthenticationFilter.USER_ID_ATTRIBUTE, required = false) Long userId) {
         
-        // TODO: Quando JWT estiver implementado, pegar userId do token
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
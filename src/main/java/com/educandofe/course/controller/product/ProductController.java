@@ -1,8 +1,7 @@
 package com.educandofe.course.controller.product;
 
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,10 +10,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.dto.product.ProductPageResponse;
+import com.educandofe.course.services.common.PrecompressedJson;
 import com.educandofe.course.services.interfaces.IProductService;
 
 @RestController
@@ -25,10 +28,28 @@ public class ProductController {
     @Autowired
     private IProductService productService;
 
+    /**
+     * Catálogo já serializado e comprimido no cache; só escolhe br, gzip ou sem compressão
+     */
     @GetMapping
-    public ResponseEntity<List<ProductModel>> findAll() {
-        List<ProductModel> products = productService.findAll();
-        return ResponseEntity.ok().body(products);
+    public ResponseEntity<byte[]> findAll(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        PrecompressedJson products = productService.findAllJson();
+        return products.toResponse(acceptEncoding);
+    }
+
+    /**
+     * Catálogo paginado por cursor, ativado quando o parâmetro limit é informado
+     * GET /products?limit=24&sort=price-asc&category=2&cursor=...
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<ProductPageResponse> findPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) String sort,
+            @RequestParam(value = "category", required = false) Long categoryId,
+            @RequestParam(required = false) String cursor) {
+        ProductPageResponse page = productService.findPage(categoryId, sort, cursor, limit);
+        return ResponseEntity.ok().body(page);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,43 @@
+package com.educandofe.course.controller.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.educandofe.course.dto.common.HashingStatsResponse;
+import com.educandofe.course.dto.common.RehashStatsResponse;
+import com.educandofe.course.security.PasswordHashExecutor;
+import com.educandofe.course.services.auth.PasswordRehashService;
+
+@RestController
+@RequestMapping("/manager/hashing")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class PasswordHashStatsController {
+
+    @Autowired
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Autowired
+    private PasswordRehashService passwordRehashService;
+
+    /**
+     * Profundidade da fila e latência do pool de BCrypt
+     * GET /manager/hashing/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<HashingStatsResponse> stats() {
+        return ResponseEntity.ok().body(passwordHashExecutor.getStats());
+    }
+
+    /**
+     * Usuários com hash de strength desatualizado e recodificações feitas no login
+     * GET /manager/hashing/rehash
+     */
+    @GetMapping("/rehash")
+    public ResponseEntity<RehashStatsResponse> rehash() {
+        return ResponseEntity.ok().body(passwordRehashService.getStats());
+    }
+}
@@ -1,20 +1,22 @@
 package com.educandofe.course.controller.upload;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.educandofe.course.Model.product.ProductModel;
 import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.services.interfaces.IProductService;
+import com.educandofe.course.services.upload.ImageStorageService;
+import com.educandofe.course.services.upload.ImageVariantService;
+import com.educandofe.course.services.upload.StoredImage;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/manager")
@@ -24,9 +26,22 @@ public class ImageUploadController {
     @Autowired
     private ProductRepository productRepository;
 
-    private static final String UPLOAD_DIR = "uploads/products/";
+    @Autowired
+    private IProductService productService;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    private static final String FOLDER = "products";
 
-    @PostMapping("/products/{id}/upload-image")
+    /**
+     * Upload em multipart/form-data (campo "file")
+     * POST /manager/products/{id}/upload-image
+     */
+    @PostMapping(value = "/products/{id}/upload-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> uploadProductImage(
             @PathVariable Long id,
             @RequestParam("file") MultipartFile file) {
@@ -36,42 +51,54 @@ public class ImageUploadController {
             ProductModel product = productRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Produto não encontrado"));
 
-            // Criar diretório se não existir
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // Gerar nome único para o arquivo
-            String originalFilename = file.getOriginalFilename();
-            if (originalFilename == null || originalFilename.isEmpty()) {
-                return ResponseEntity.badRequest()
-                        .body(new ImageUploadResponse(null, "Nome do arquivo inválido"));
-            }
-            
-            String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String newFilename = UUID.randomUUID().toString() + fileExtension;
-
-            // Salvar arquivo
-            Path filePath = uploadPath.resolve(newFilename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            // Atualizar URL da imagem no produto
-            String imageUrl = "/uploads/products/" + newFilename;
-            product.setImgUrl(imageUrl);
-            productRepository.save(product);
-
-            return ResponseEntity.ok().body(new ImageUploadResponse(imageUrl, "Upload realizado com sucesso"));
+            return saved(product, imageStorageService.store(FOLDER, file));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ImageUploadResponse(null, "Erro ao fazer upload: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Upload em modo streaming: o corpo é a própria imagem (Content-Type image/jpeg,
+     * image/png, image/webp ou image/gif) e vai direto para o arquivo final
+     * POST /manager/products/{id}/upload-image
+     */
+    @PostMapping(value = "/products/{id}/upload-image",
+            consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, "image/webp", MediaType.IMAGE_GIF_VALUE})
+    public ResponseEntity<?> streamProductImage(
+            @PathVariable Long id,
+            HttpServletRequest request) {
+        
+        try {
+            ProductModel product = productRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Produto não encontrado"));
+
+            return saved(product, imageStorageService.store(FOLDER, request.getInputStream(),
+                    request.getContentLengthLong(), request.getContentType()));
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ImageUploadResponse(null, "Erro ao fazer upload: " + e.getMessage()));
         }
     }
 
+    private ResponseEntity<?> saved(ProductModel product, StoredImage image) {
+        // Atualizar URL da imagem no produto (invalida o cache do catálogo)
+        productService.updateImage(product.getId(), image.getUrl());
+        // Thumbnail, card e detail saem em segundo plano (imageVariants do produto)
+        imageVariantService.submit(product.getId(), image);
+
+        ImageUploadResponse response = new ImageUploadResponse(image.getUrl(), "Upload realizado com sucesso");
+        response.setSize(image.getSize());
+        response.setSha256(image.getSha256());
+        return ResponseEntity.ok().body(response);
+    }
+
     // Classe para resposta do upload
     static class ImageUploadResponse {
         private String imageUrl;
         private String message;
+        private Long size;
+        private String sha256;
 
         public ImageUploadResponse(String imageUrl, String message) {
             this.imageUrl = imageUrl;
@@ -93,5 +120,21 @@ public class ImageUploadController {
         public void setMessage(String message) {
             this.message = message;
         }
+
+        public Long getSize() {
+            return size;
+        }
+
+        public void setSize(Long size) {
+            this.size = size;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        public void setSha256(String sha256) {
+            this.sha256 = sha256;
+        }
     }
 }
@@ -1,20 +1,21 @@
 package com.educandofe.course.controller.upload;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.educandofe.course.Model.user.UserModel;
 import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.services.upload.ImageStorageService;
+import com.educandofe.course.services.upload.ImageSweeper;
+import com.educandofe.course.services.upload.StoredImage;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/users")
@@ -24,9 +25,19 @@ public class UserImageUploadController {
     @Autowired
     private UserRepository userRepository;
 
-    private static final String UPLOAD_DIR = "uploads/users/";
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ImageSweeper imageSweeper;
+
+    private static final String FOLDER = "users";
 
-    @PostMapping("/{id}/upload-profile-image")
+    /**
+     * Upload em multipart/form-data (campo "file")
+     * POST /users/{id}/upload-profile-image
+     */
+    @PostMapping(value = "/{id}/upload-profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> uploadProfileImage(
             @PathVariable Long id,
             @RequestParam("file") MultipartFile file) {
@@ -36,42 +47,57 @@ public class UserImageUploadController {
             UserModel user = userRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
-            // Criar diretório se não existir
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // Gerar nome único para o arquivo
-            String originalFilename = file.getOriginalFilename();
-            if (originalFilename == null || originalFilename.isEmpty()) {
-                return ResponseEntity.badRequest()
-                        .body(new ProfileImageUploadResponse(null, "Nome do arquivo inválido"));
-            }
-            
-            String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            String newFilename = UUID.randomUUID().toString() + fileExtension;
-
-            // Salvar arquivo
-            Path filePath = uploadPath.resolve(newFilename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            // Atualizar URL da imagem no usuário
-            String imageUrl = "/uploads/users/" + newFilename;
-            user.setProfileImage(imageUrl);
-            userRepository.save(user);
-
-            return ResponseEntity.ok().body(new ProfileImageUploadResponse(imageUrl, "Upload realizado com sucesso"));
+            return saved(user, imageStorageService.store(FOLDER, file));
         } catch (IOException e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ProfileImageUploadResponse(null, "Erro ao fazer upload: " + e.getMessage()));
         }
     }
 
+    /**
+     * Upload em modo streaming: o corpo é a própria imagem (Content-Type image/jpeg,
+     * image/png, image/webp ou image/gif) e vai direto para o arquivo final
+     * POST /users/{id}/upload-profile-image
+     */
+    @PostMapping(value = "/{id}/upload-profile-image",
+            consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, "image/webp", MediaType.IMAGE_GIF_VALUE})
+    public ResponseEntity<?> streamProfileImage(
+            @PathVariable Long id,
+            HttpServletRequest request) {
+        
+        try {
+            UserModel user = userRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+            return saved(user, imageStorageService.store(FOLDER, request.getInputStream(),
+                    request.getContentLengthLong(), request.getContentType()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ProfileImageUploadResponse(null, "Erro ao fazer upload: " + e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> saved(UserModel user, StoredImage image) {
+        // Atualizar URL da imagem no usuário
+        String previousImage = user.getProfileImage();
+        user.setProfileImage(image.getUrl());
+        userRepository.save(user);
+        if (previousImage != null && !previousImage.equals(image.getUrl())) {
+            imageSweeper.release(previousImage);
+        }
+
+        ProfileImageUploadResponse response = new ProfileImageUploadResponse(image.getUrl(), "Upload realizado com sucesso");
+        response.setSize(image.getSize());
+        response.setSha256(image.getSha256());
+        return ResponseEntity.ok().body(response);
+    }
+
     // Classe para resposta do upload
     static class ProfileImageUploadResponse {
         private String imageUrl;
         private String message;
+        private Long size;
+        private String sha256;
 
         public ProfileImageUploadResponse(String imageUrl, String message) {
             this.imageUrl = imageUrl;
@@ -93,5 +119,21 @@ public class UserImageUploadController {
         public void setMessage(String message) {
             this.message = message;
         }
+
+        public Long getSize() {
+            return size;
+        }
+
+        public void setSize(Long size) {
+            this.size = size;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        public void setSha256(String sha256) {
+            this.sha256 = sha256;
+        }
     }
 }
@@ -56,15 +56,12 @@ public class UserController {
 
     @PutMapping("/{id}")
     public ResponseEntity<UserModel> update(@PathVariable Long id, @RequestBody UserModel user) {
-        System.out.println("=== Recebendo requisição PUT /users/" + id + " ===");
-        System.out.println("Dados recebidos: " + user);
         user = userService.update(id, user);
         return ResponseEntity.ok().body(user);
     }
 
     @PostMapping("/{id}/change-password")
     public ResponseEntity<Void> changePassword(@PathVariable Long id, @RequestBody ChangePasswordRequest request) {
-        System.out.println("=== Recebendo requisição POST /users/" + id + "/change-password ===");
         userService.changePassword(id, request.getCurrentPassword(), request.getNewPassword());
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,112 @@
+package com.educandofe.course.dto.common;
+
+public class HashingStatsResponse {
+    private int threads;
+    private int active;
+    private int queueDepth;
+    private int queueCapacity;
+    private long completed;
+    private long rejected;
+    private long timedOut;
+    private double avgHashMillis;
+    private double maxHashMillis;
+    private double avgWaitMillis;
+
+    public HashingStatsResponse() {
+    }
+
+    public HashingStatsResponse(int threads, int active, int queueDepth, int queueCapacity, long completed,
+                                long rejected, long timedOut, double avgHashMillis, double maxHashMillis,
+                                double avgWaitMillis) {
+        this.threads = threads;
+        this.active = active;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.completed = completed;
+        this.rejected = rejected;
+        this.timedOut = timedOut;
+        this.avgHashMillis = avgHashMillis;
+        this.maxHashMillis = maxHashMillis;
+        this.avgWaitMillis = avgWaitMillis;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive(int active) {
+        this.active = active;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getTimedOut() {
+        return timedOut;
+    }
+
+    public void setTimedOut(long timedOut) {
+        this.timedOut = timedOut;
+    }
+
+    public double getAvgHashMillis() {
+        return avgHashMillis;
+    }
+
+    public void setAvgHashMillis(double avgHashMillis) {
+        this.avgHashMillis = avgHashMillis;
+    }
+
+    public double getMaxHashMillis() {
+        return maxHashMillis;
+    }
+
+    public void setMaxHashMillis(double maxHashMillis) {
+        this.maxHashMillis = maxHashMillis;
+    }
+
+    public double getAvgWaitMillis() {
+        return avgWaitMillis;
+    }
+
+    public void setAvgWaitMillis(double avgWaitMillis) {
+        this.avgWaitMillis = avgWaitMillis;
+    }
+}
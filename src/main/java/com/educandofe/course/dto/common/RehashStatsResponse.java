@@ -0,0 +1,71 @@
+package com.educandofe.course.dto.common;
+
+public class RehashStatsResponse {
+    private int targetStrength;
+    private long outdatedUsers;
+    private long rehashed;
+    private long conflicts;
+    private long skipped;
+    private long failed;
+
+    public RehashStatsResponse() {
+    }
+
+    public RehashStatsResponse(int targetStrength, long outdatedUsers, long rehashed, long conflicts,
+                               long skipped, long failed) {
+        this.targetStrength = targetStrength;
+        this.outdatedUsers = outdatedUsers;
+        this.rehashed = rehashed;
+        this.conflicts = conflicts;
+        this.skipped = skipped;
+        this.failed = failed;
+    }
+
+    public int getTargetStrength() {
+        return targetStrength;
+    }
+
+    public void setTargetStrength(int targetStrength) {
+        this.targetStrength = targetStrength;
+    }
+
+    public long getOutdatedUsers() {
+        return outdatedUsers;
+    }
+
+    public void setOutdatedUsers(long outdatedUsers) {
+        this.outdatedUsers = outdatedUsers;
+    }
+
+    public long getRehashed() {
+        return rehashed;
+    }
+
+    public void setRehashed(long rehashed) {
+        this.rehashed = rehashed;
+    }
+
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(long conflicts) {
+        this.conflicts = conflicts;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.educandofe.course.dto.common;
+
+import java.util.Map;
+
+public class ThreadingStatsResponse {
+    private String mode;
+    private long pinnedEvents;
+    private double maxPinnedMillis;
+    private Map<String, Long> pinnedByFrame;
+
+    public ThreadingStatsResponse() {
+    }
+
+    public ThreadingStatsResponse(String mode, long pinnedEvents, double maxPinnedMillis,
+                                  Map<String, Long> pinnedByFrame) {
+        this.mode = mode;
+        this.pinnedEvents = pinnedEvents;
+        this.maxPinnedMillis = maxPinnedMillis;
+        this.pinnedByFrame = pinnedByFrame;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public long getPinnedEvents() {
+        return pinnedEvents;
+    }
+
+    public void setPinnedEvents(long pinnedEvents) {
+        this.pinnedEvents = pinnedEvents;
+    }
+
+    public double getMaxPinnedMillis() {
+        return maxPinnedMillis;
+    }
+
+    public void setMaxPinnedMillis(double maxPinnedMillis) {
+        this.maxPinnedMillis = maxPinnedMillis;
+    }
+
+    public Map<String, Long> getPinnedByFrame() {
+        return pinnedByFrame;
+    }
+
+    public void setPinnedByFrame(Map<String, Long> pinnedByFrame) {
+        this.pinnedByFrame = pinnedByFrame;
+    }
+}
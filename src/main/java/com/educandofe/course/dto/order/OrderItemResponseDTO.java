@@ -35,6 +35,12 @@ public class OrderItemResponseDTO {
         this.subTotal = item.getSubTotal();
     }
 
+    // Constructor from projection
+    public OrderItemResponseDTO(OrderLineRow row) {
+        this(row.getProductId(), row.getProductName(), row.getProductImageUrl(),
+             row.getQuantity(), row.getPrice(), row.getPrice() * row.getQuantity());
+    }
+
     // Getters and Setters
     public Long getProductId() {
         return productId;
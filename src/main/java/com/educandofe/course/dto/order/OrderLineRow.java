@@ -0,0 +1,84 @@
+package com.educandofe.course.dto.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha da projeção da listagem de pedidos: dados do pedido e do cliente
+ * repetidos em cada item. Montada direto do result set (select new), sem
+ * carregar entidades no contexto de persistência.
+ */
+public class OrderLineRow {
+
+    private final Long orderId;
+    private final LocalDateTime moment;
+    private final Integer orderStatus;
+    private final String clientName;
+    private final String clientEmail;
+    private final Long productId;
+    private final String productName;
+    private final String productImageUrl;
+    private final Integer quantity;
+    private final Double price;
+
+    public OrderLineRow(Long orderId, LocalDateTime moment, Integer orderStatus, String clientName,
+                        String clientEmail, Long productId, String productName, String productImageUrl,
+                        Integer quantity, Double price) {
+        this.orderId = orderId;
+        this.moment = moment;
+        this.orderStatus = orderStatus;
+        this.clientName = clientName;
+        this.clientEmail = clientEmail;
+        this.productId = productId;
+        this.productName = productName;
+        this.productImageUrl = productImageUrl;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getMoment() {
+        return moment;
+    }
+
+    public Integer getOrderStatus() {
+        return orderStatus;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    public String getClientEmail() {
+        return clientEmail;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public String getProductImageUrl() {
+        return productImageUrl;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    /**
+     * Indica se a linha traz um item (pedidos sem itens vêm com os campos do item nulos)
+     */
+    public boolean hasItem() {
+        return productId != null;
+    }
+}
@@ -69,6 +69,22 @@ public class OrderResponseDTO {
         this.clientEmail = order.getClient() != null ? order.getClient().getEmail() : null;
     }
 
+    // Constructor from projection (itens adicionados depois com addItem)
+    public OrderResponseDTO(OrderLineRow row) {
+        this.id = row.getOrderId();
+        this.moment = row.getMoment();
+        this.status = row.getOrderStatus() != null ? OrderStatus.valueOf(row.getOrderStatus()) : null;
+        this.orderNumber = String.format("ORD-%05d", row.getOrderId());
+        this.total = 0.0;
+        this.clientName = row.getClientName();
+        this.clientEmail = row.getClientEmail();
+    }
+
+    public void addItem(OrderItemResponseDTO item) {
+        this.items.add(item);
+        this.total += item.getSubTotal();
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,102 @@
+package com.educandofe.course.dto.product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.educandofe.course.Model.product.ProductModel;
+
+/**
+ * Cursor opaco do catálogo: guarda a ordenação e a chave (valor, id) do último
+ * produto entregue, para que a próxima página comece logo depois dele.
+ *
+ * O valor vai prefixado por "=" e um valor nulo (produto sem preço ou nome)
+ * vai vazio, para não se confundir com um nome "null" ou "".
+ */
+public final class ProductCursor {
+
+    private static final String SEPARATOR = "|";
+    private static final String VALUE_PREFIX = "=";
+
+    private final ProductSort sort;
+    private final Long id;
+    private final String key;
+
+    private ProductCursor(ProductSort sort, Long id, String key) {
+        this.sort = sort;
+        this.id = id;
+        this.key = key;
+    }
+
+    public ProductSort getSort() {
+        return sort;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Nome do último produto, ou null se ele não tinha nome
+     */
+    public String getName() {
+        return key;
+    }
+
+    /**
+     * Preço do último produto, ou null se ele não tinha preço
+     */
+    public Double getPrice() {
+        return key == null ? null : Double.valueOf(key);
+    }
+
+    public static ProductCursor after(ProductSort sort, ProductModel last) {
+        String key = switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> last.getPrice() == null ? null : String.valueOf(last.getPrice());
+            case NAME_ASC, NAME_DESC -> last.getName();
+            default -> null;
+        };
+        return new ProductCursor(sort, last.getId(), key);
+    }
+
+    public String encode() {
+        String raw = sort.getParam() + SEPARATOR + id + SEPARATOR + (key == null ? "" : VALUE_PREFIX + key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente
+     * @param value Cursor em base64url
+     * @param expectedSort Ordenação da requisição atual
+     * @return Cursor decodificado
+     * @throws IllegalArgumentException se o cursor for inválido ou de outra ordenação
+     */
+    public static ProductCursor decode(String value, ProductSort expectedSort) {
+        String[] parts;
+        ProductCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            String key;
+            if (parts[2].isEmpty()) {
+                key = null;
+            } else if (parts[2].startsWith(VALUE_PREFIX)) {
+                key = parts[2].substring(VALUE_PREFIX.length());
+            } else {
+                throw new IllegalArgumentException();
+            }
+            cursor = new ProductCursor(expectedSort, Long.valueOf(parts[1]), key);
+            if ("price".equals(expectedSort.getProperty()) && key != null) {
+                Double.valueOf(key);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        if (!parts[0].equals(expectedSort.getParam())) {
+            throw new IllegalArgumentException("Cursor não corresponde à ordenação informada");
+        }
+        return cursor;
+    }
+}
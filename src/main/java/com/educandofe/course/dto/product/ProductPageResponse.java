@@ -0,0 +1,62 @@
+package com.educandofe.course.dto.product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.educandofe.course.Model.product.ProductModel;
+
+/**
+ * Página do catálogo paginado por cursor (keyset).
+ * O cliente envia {@code nextCursor} de volta para buscar a próxima página.
+ */
+public class ProductPageResponse {
+
+    private List<ProductModel> content = new ArrayList<>();
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+
+    // Constructors
+    public ProductPageResponse() {
+    }
+
+    public ProductPageResponse(List<ProductModel> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = content.size();
+    }
+
+    // Getters and Setters
+    public List<ProductModel> getContent() {
+        return content;
+    }
+
+    public void setContent(List<ProductModel> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,59 @@
+package com.educandofe.course.dto.product;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Ordenações oferecidas pelo catálogo (mesmos valores usados pelo frontend).
+ * Toda ordenação termina em {@code id} para que a chave do cursor seja única.
+ */
+public enum ProductSort {
+    RELEVANCE("relevance", null, Sort.Direction.ASC),
+    PRICE_ASC("price-asc", "price", Sort.Direction.ASC),
+    PRICE_DESC("price-desc", "price", Sort.Direction.DESC),
+    NAME_ASC("name", "name", Sort.Direction.ASC),
+    NAME_DESC("name-desc", "name", Sort.Direction.DESC);
+
+    private final String param;
+    private final String property;
+    private final Sort.Direction direction;
+
+    private ProductSort(String param, String property, Sort.Direction direction) {
+        this.param = param;
+        this.property = property;
+        this.direction = direction;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * Propriedade de ordenação principal, ou null quando a ordenação é apenas por id
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Sort toSort() {
+        if (property == null) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, property, "id");
+    }
+
+    public static ProductSort fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return RELEVANCE;
+        }
+        for (ProductSort value : ProductSort.values()) {
+            if (value.param.equals(param)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Ordenação inválida: " + param);
+    }
+}
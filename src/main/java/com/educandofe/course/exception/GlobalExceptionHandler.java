@@ -1,14 +1,23 @@
 package com.educandofe.course.exception;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import com.educandofe.course.dto.common.ErrorResponse;
 import com.educandofe.course.services.exception.DatabaseException;
+import com.educandofe.course.services.exception.PayloadTooLargeException;
 import com.educandofe.course.services.exception.ResourceNotFoundException;
+import com.educandofe.course.services.exception.ServiceUnavailableException;
+import com.educandofe.course.services.exception.TooManyRequestsException;
 
 /**
  * Manipulador global de exceções.
@@ -21,6 +30,8 @@ import com.educandofe.course.services.exception.ResourceNotFoundException;
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
     
     /**
      * Trata exceções de recurso não encontrado (404)
@@ -40,6 +51,24 @@ public class GlobalExceptionHandler {
             .body(error);
     }
     
+    /**
+     * Trata arquivo ou rota inexistente, ex.: imagem de /uploads já removida (404)
+     */
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResourceFound(
+            NoResourceFoundException ex, 
+            WebRequest request) {
+        
+        ErrorResponse error = new ErrorResponse(
+            "Recurso não encontrado: /" + ex.getResourcePath(), 
+            HttpStatus.NOT_FOUND.value()
+        );
+        
+        return ResponseEntity
+            .status(HttpStatus.NOT_FOUND)
+            .body(error);
+    }
+    
     /**
      * Trata exceções de validação (400)
      */
@@ -76,6 +105,84 @@ public class GlobalExceptionHandler {
             .body(error);
     }
     
+    /**
+     * Trata uploads acima do limite (413), no corpo cru ou no multipart
+     */
+    @ExceptionHandler({PayloadTooLargeException.class, MaxUploadSizeExceededException.class})
+    public ResponseEntity<ErrorResponse> handlePayloadTooLarge(
+            Exception ex, 
+            WebRequest request) {
+        
+        String message = ex instanceof PayloadTooLargeException
+            ? ex.getMessage()
+            : "Arquivo maior que o limite permitido";
+        ErrorResponse error = new ErrorResponse(
+            message, 
+            HttpStatus.PAYLOAD_TOO_LARGE.value()
+        );
+        
+        return ResponseEntity
+            .status(HttpStatus.PAYLOAD_TOO_LARGE)
+            .body(error);
+    }
+    
+    /**
+     * Trata Content-Type não aceito pelo endpoint (415), ex.: upload que não é imagem nem multipart
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorResponse> handleMediaTypeNotSupported(
+            HttpMediaTypeNotSupportedException ex, 
+            WebRequest request) {
+        
+        ErrorResponse error = new ErrorResponse(
+            "Content-Type não suportado: " + ex.getContentType(), 
+            HttpStatus.UNSUPPORTED_MEDIA_TYPE.value()
+        );
+        
+        return ResponseEntity
+            .status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+            .headers(ex.getHeaders())
+            .body(error);
+    }
+    
+    /**
+     * Trata excesso de tentativas (429), com Retry-After
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(
+            TooManyRequestsException ex, 
+            WebRequest request) {
+        
+        ErrorResponse error = new ErrorResponse(
+            ex.getMessage(), 
+            HttpStatus.TOO_MANY_REQUESTS.value()
+        );
+        
+        return ResponseEntity
+            .status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(error);
+    }
+    
+    /**
+     * Trata sobrecarga temporária (503), com Retry-After
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            ServiceUnavailableException ex, 
+            WebRequest request) {
+        
+        ErrorResponse error = new ErrorResponse(
+            ex.getMessage(), 
+            HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(error);
+    }
+    
     /**
      * Trata exceções genéricas (500)
      */
@@ -84,8 +191,7 @@ public class GlobalExceptionHandler {
             Exception ex, 
             WebRequest request) {
         
-        System.err.println("Erro não tratado: " + ex.getMessage());
-        ex.printStackTrace();
+        log.error("Erro não tratado", ex);
         
         ErrorResponse error = new ErrorResponse(
             "Erro interno no servidor", 
@@ -0,0 +1,39 @@
+package com.educandofe.course.monitoring;
+
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Acrescenta ao timer http.server.requests a tag handler com o método do
+ * controller que atendeu (ex.: ProductController.findAll).
+ *
+ * A tag uri já separa por rota; handler junta as rotas de um mesmo método
+ * e deixa achar direto no código o endpoint lento. Requisições sem
+ * controller (arquivos estáticos, 404) ficam com handler=none.
+ */
+@Component
+public class ControllerMethodObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final String HANDLER = "handler";
+    private static final String NONE = "none";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(handler(context));
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        if (context.getCarrier() != null
+                && context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+                    instanceof HandlerMethod method) {
+            return KeyValue.of(HANDLER, method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+        }
+        return KeyValue.of(HANDLER, NONE);
+    }
+}
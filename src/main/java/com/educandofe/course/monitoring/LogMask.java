@@ -0,0 +1,29 @@
+package com.educandofe.course.monitoring;
+
+/**
+ * Mascara dados pessoais antes de irem para o log.
+ *
+ * O log serve para correlacionar eventos, não para guardar cadastro:
+ * do email fica só a primeira letra e o domínio.
+ */
+public final class LogMask {
+
+    private LogMask() {
+    }
+
+    /**
+     * Mascara um email, ex.: "maria@gmail.com" vira "m***@gmail.com"
+     * @param email Email informado (pode ser nulo ou inválido)
+     * @return Email mascarado, ou "***" se não tiver formato de email
+     */
+    public static String email(String email) {
+        if (email == null) return null;
+
+        String trimmed = email.trim();
+        int at = trimmed.lastIndexOf('@');
+        if (at <= 0 || at == trimmed.length() - 1) {
+            return "***";
+        }
+        return trimmed.charAt(0) + "***" + trimmed.substring(at);
+    }
+}
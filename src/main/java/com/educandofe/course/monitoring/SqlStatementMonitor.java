@@ -0,0 +1,194 @@
+package com.educandofe.course.monitoring;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.educandofe.course.dto.common.SqlQueryStatsResponse;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Mede cada comando SQL executado pelo DataSource (ver SqlMonitoringConfig).
+ *
+ * Toda execução entra no histograma da consulta. Só vão para o log as que
+ * passam do limite (logger "sql.slow", com os parâmetros) e uma amostra das
+ * demais (logger "sql.sample"), no lugar do show-sql que imprimia tudo.
+ *
+ * Dos parâmetros, números, datas, booleanos e enums saem como estão; texto e
+ * binário saem só como tipo e tamanho (ex.: String(60)), porque incluem hash de
+ * senha e email. sql.monitoring.log-string-values=true mostra o texto (só para
+ * depuração local).
+ */
+@Component
+public class SqlStatementMonitor implements QueryExecutionListener {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("sql.slow");
+    private static final Logger sampleLog = LoggerFactory.getLogger("sql.sample");
+
+    private static final String START_KEY = SqlStatementMonitor.class.getName() + ".start";
+    private static final String OTHER_QUERIES = "(demais consultas)";
+    private static final int MAX_LOGGED_VALUE = 64;
+    private static final int MAX_LOGGED_BATCH_ROWS = 3;
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int maxTrackedQueries;
+    private final boolean logStringValues;
+
+    public SqlStatementMonitor(
+            @Value("${sql.monitoring.slow-threshold-ms:200}") long slowThresholdMillis,
+            @Value("${sql.monitoring.sample-rate:0}") double sampleRate,
+            @Value("${sql.monitoring.max-tracked-queries:500}") int maxTrackedQueries,
+            @Value("${sql.monitoring.log-string-values:false}") boolean logStringValues) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.sampleRate = sampleRate;
+        this.maxTrackedQueries = maxTrackedQueries;
+        this.logStringValues = logStringValues;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_KEY, Long.class);
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        for (QueryInfo query : queryInfoList) {
+            histogramFor(query.getQuery()).record(elapsed);
+        }
+
+        if (elapsed >= slowThresholdNanos) {
+            if (slowLog.isWarnEnabled()) {
+                slowLog.warn("{} ms{} | {} | params={}", toMillis(elapsed), describe(execInfo),
+                    queries(queryInfoList), params(queryInfoList));
+            }
+        } else if (sampleRate > 0 && sampleLog.isInfoEnabled()
+                && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            sampleLog.info("{} ms{} | {} | params={}", toMillis(elapsed), describe(execInfo),
+                queries(queryInfoList), params(queryInfoList));
+        }
+    }
+
+    /**
+     * Consultas com maior tempo total acumulado
+     * @param limit Quantidade máxima de consultas
+     * @return Estatísticas por consulta, da mais cara para a mais barata
+     */
+    public List<SqlQueryStatsResponse> getStats(int limit) {
+        List<SqlQueryStatsResponse> stats = new ArrayList<>();
+        histograms.forEach((sql, histogram) -> stats.add(new SqlQueryStatsResponse(sql,
+            histogram.getCount(),
+            toMillis(histogram.getTotalNanos()),
+            toMillis(histogram.percentileNanos(0.50)),
+            toMillis(histogram.percentileNanos(0.95)),
+            toMillis(histogram.percentileNanos(0.99)),
+            toMillis(histogram.getMaxNanos()))));
+        stats.sort(Comparator.comparingDouble(SqlQueryStatsResponse::getTotalMillis).reversed());
+        return stats.size() > limit ? stats.subList(0, limit) : stats;
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    // Número de consultas distintas é limitado; as excedentes dividem um histograma
+    private LatencyHistogram histogramFor(String sql) {
+        LatencyHistogram histogram = histograms.get(sql);
+        if (histogram != null) {
+            return histogram;
+        }
+        String key = histograms.size() < maxTrackedQueries ? sql : OTHER_QUERIES;
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    private static String describe(ExecutionInfo execInfo) {
+        String status = execInfo.isSuccess() ? "" : " (erro)";
+        return execInfo.isBatch() ? " batch=" + execInfo.getBatchSize() + status : status;
+    }
+
+    private static String queries(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.size() == 1) {
+            return queryInfoList.get(0).getQuery();
+        }
+        List<String> sql = new ArrayList<>();
+        for (QueryInfo query : queryInfoList) {
+            sql.add(query.getQuery());
+        }
+        return String.join("; ", sql);
+    }
+
+    private String params(List<QueryInfo> queryInfoList) {
+        StringBuilder out = new StringBuilder();
+        for (QueryInfo query : queryInfoList) {
+            List<List<ParameterSetOperation>> rows = query.getParametersList();
+            for (int row = 0; row < rows.size() && row < MAX_LOGGED_BATCH_ROWS; row++) {
+                out.append('[');
+                List<ParameterSetOperation> operations = rows.get(row);
+                for (int i = 0; i < operations.size(); i++) {
+                    if (i > 0) out.append(", ");
+                    out.append(formatValue(operations.get(i), logStringValues));
+                }
+                out.append(']');
+            }
+            if (rows.size() > MAX_LOGGED_BATCH_ROWS) {
+                out.append(" ... (+").append(rows.size() - MAX_LOGGED_BATCH_ROWS).append(')');
+            }
+        }
+        return out.toString();
+    }
+
+    private static String formatValue(ParameterSetOperation operation, boolean logStringValues) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return "null";
+        }
+        Object[] args = operation.getArgs();
+        return formatValue(args.length > 1 ? args[1] : null, logStringValues);
+    }
+
+    /**
+     * Valor de um parâmetro para o log
+     * @param value Valor passado ao PreparedStatement
+     * @param logStringValues Se texto e binário saem com o conteúdo (truncado)
+     * @return O valor, ou só tipo e tamanho para texto e binário
+     */
+    static String formatValue(Object value, boolean logStringValues) {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+                || value instanceof Temporal || value instanceof Date) {
+            return String.valueOf(value);
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        String text = String.valueOf(value);
+        if (!logStringValues) {
+            return value.getClass().getSimpleName() + "(" + text.length() + ")";
+        }
+        return text.length() > MAX_LOGGED_VALUE ? text.substring(0, MAX_LOGGED_VALUE) + "..." : text;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
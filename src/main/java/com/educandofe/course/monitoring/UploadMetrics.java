@@ -0,0 +1,63 @@
+package com.educandofe.course.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bytes recebidos nos uploads de imagem, por destino (products, users).
+ * Em /actuator/prometheus: uploads_bytes_count, uploads_bytes_sum e uploads_bytes_max,
+ * uploads_deduplicated_bytes_total (conteúdo que já existia) e
+ * uploads_reclaimed_bytes_total (arquivos sem referência removidos).
+ */
+@Component
+public class UploadMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public UploadMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Registra um upload gravado com sucesso
+     * @param target Destino do arquivo (products, users)
+     * @param bytes Tamanho do arquivo
+     */
+    public void record(String target, long bytes) {
+        DistributionSummary.builder("uploads.bytes")
+            .description("Tamanho dos arquivos recebidos")
+            .baseUnit("bytes")
+            .tag("target", target)
+            .register(meterRegistry)
+            .record(bytes);
+    }
+
+    /**
+     * Registra um upload cujo conteúdo já estava gravado (nenhum byte novo em disco)
+     * @param target Destino do arquivo (products, users)
+     * @param bytes Tamanho do arquivo
+     */
+    public void deduplicated(String target, long bytes) {
+        Counter.builder("uploads.deduplicated")
+            .description("Bytes de uploads cujo conteúdo já existia")
+            .baseUnit("bytes")
+            .tag("target", target)
+            .register(meterRegistry)
+            .increment(bytes);
+    }
+
+    /**
+     * Registra um arquivo sem referência removido pelo ImageSweeper
+     * @param bytes Tamanho do arquivo
+     */
+    public void reclaimed(long bytes) {
+        Counter.builder("uploads.reclaimed")
+            .description("Bytes de imagens sem referência removidas")
+            .baseUnit("bytes")
+            .register(meterRegistry)
+            .increment(bytes);
+    }
+}
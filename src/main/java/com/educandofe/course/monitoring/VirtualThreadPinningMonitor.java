@@ -0,0 +1,191 @@
+package com.educandofe.course.monitoring;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.educandofe.course.dto.common.ThreadingStatsResponse;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Vigia a pinagem de virtual threads quando spring.threads.virtual.enabled=true.
+ *
+ * Uma virtual thread que bloqueia (I/O, lock, sleep) dentro de um bloco
+ * synchronized prende a thread portadora; com poucas portadoras (uma por
+ * núcleo), algumas requisições presas em JDBC bastam para parar o servidor.
+ * Na subida confere se o driver JDBC é dos que usam synchronized no caminho
+ * de I/O; depois escuta o evento jdk.VirtualThreadPinned do JFR e loga cada
+ * ponto de pinagem novo acima do limite. Contagens em GET /manager/threads/stats.
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.educandofe.";
+    private static final String OTHER_FRAMES = "(demais pontos)";
+    private static final int MAX_TRACKED_FRAMES = 100;
+
+    private final boolean virtualThreads;
+    private final Duration threshold;
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final AtomicLong maxPinnedNanos = new AtomicLong();
+    private final Map<String, LongAdder> pinnedByFrame = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(Environment environment,
+            @Value("${threads.pinning.threshold:PT0.02S}") Duration threshold) {
+        this(Threading.VIRTUAL.isActive(environment), threshold);
+    }
+
+    VirtualThreadPinningMonitor(boolean virtualThreads, Duration threshold) {
+        this.virtualThreads = virtualThreads;
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!virtualThreads) {
+            return;
+        }
+        checkJdbcDriver();
+        startRecording();
+    }
+
+    /**
+     * Começa a escutar os eventos de pinagem do JFR (idempotente)
+     */
+    synchronized void startRecording() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Modo virtual threads: monitorando pinagens acima de {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    public ThreadingStatsResponse getStats() {
+        Map<String, Long> byFrame = new LinkedHashMap<>();
+        pinnedByFrame.entrySet().stream()
+            .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                (a, b) -> Long.compare(b.sum(), a.sum())))
+            .forEach(entry -> byFrame.put(entry.getKey(), entry.getValue().sum()));
+        return new ThreadingStatsResponse(virtualThreads ? "virtual" : "platform",
+            pinnedEvents.sum(), maxPinnedNanos.get() / 1_000_000.0, byFrame);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        recordPinned(pinningPoint(event.getStackTrace()), event.getDuration());
+    }
+
+    void recordPinned(String point, Duration duration) {
+        pinnedEvents.increment();
+        maxPinnedNanos.accumulateAndGet(duration.toNanos(), Math::max);
+
+        String key = pinnedByFrame.containsKey(point) || pinnedByFrame.size() < MAX_TRACKED_FRAMES
+            ? point : OTHER_FRAMES;
+        LongAdder counter = pinnedByFrame.get(key);
+        if (counter == null) {
+            LongAdder created = new LongAdder();
+            counter = pinnedByFrame.putIfAbsent(key, created);
+            if (counter == null) {
+                counter = created;
+                // Só a primeira ocorrência de cada ponto vai para o log
+                log.atWarn()
+                    .addKeyValue("event", "thread.pinned")
+                    .addKeyValue("at", point)
+                    .addKeyValue("millis", duration.toMillis())
+                    .log("Virtual thread presa à portadora (bloqueio dentro de synchronized)");
+            }
+        }
+        counter.increment();
+    }
+
+    /**
+     * Primeiro frame fora do JDK (quem segura o monitor) e, se houver, o primeiro
+     * frame da aplicação (de onde a chamada veio)
+     */
+    static String pinningPoint(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(sem stack)";
+        }
+        String library = null;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            String method = type + "." + frame.getMethod().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return library == null || library.equals(method) ? method : library + " <- " + method;
+            }
+            if (library == null && !isJdk(type)) {
+                library = method;
+            }
+        }
+        return library != null ? library : "(JDK)";
+    }
+
+    private static boolean isJdk(String type) {
+        return type.startsWith("java.") || type.startsWith("javax.") || type.startsWith("jdk.")
+            || type.startsWith("sun.");
+    }
+
+    private void checkJdbcDriver() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String driver = metaData.getDriverName();
+            int major = metaData.getDriverMajorVersion();
+            int minor = metaData.getDriverMinorVersion();
+
+            // H2 e PostgreSQL JDBC anteriores ao 42.6 sincronizam o I/O com synchronized
+            boolean pins = driver.startsWith("H2")
+                || (driver.startsWith("PostgreSQL") && (major < 42 || (major == 42 && minor < 6)));
+            if (pins) {
+                log.warn("Driver JDBC {} {}.{} usa synchronized no I/O e prende as virtual threads; "
+                    + "use spring.threads.virtual.enabled=false ou atualize o driver", driver, major, minor);
+            }
+        } catch (SQLException e) {
+            log.warn("Não foi possível verificar o driver JDBC", e);
+        }
+    }
+}
@@ -1,7 +1,23 @@
 package com.educandofe.course.repositorys.category;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
 import com.educandofe.course.Model.category.CategoryModel;
 
+import jakarta.persistence.QueryHint;
+
 public interface CategoryRepository extends JpaRepository<CategoryModel, Long>{
 
+    /**
+     * Lista todas as categorias pelo query cache do Hibernate:
+     * o resultado (IDs) fica em memória até a próxima escrita em tb_category,
+     * e as entidades vêm da região catalog-category
+     * @return Lista de categorias
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<CategoryModel> findAll();
 }
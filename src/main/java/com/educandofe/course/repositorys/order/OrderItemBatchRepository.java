@@ -0,0 +1,19 @@
+package com.educandofe.course.repositorys.order;
+
+import java.util.List;
+
+import com.educandofe.course.Model.order.OrderItemModel;
+
+/**
+ * Escrita em lote dos itens de um pedido novo.
+ */
+public interface OrderItemBatchRepository {
+
+    /**
+     * Insere todos os itens em um único lote JDBC.
+     * Diferente de saveAll, não faz merge (e portanto não faz SELECT) por item,
+     * já que a chave composta (pedido, produto) vem preenchida.
+     * @param items Itens novos de um mesmo pedido
+     */
+    void persistAll(List<OrderItemModel> items);
+}
@@ -0,0 +1,39 @@
+package com.educandofe.course.repositorys.order;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.educandofe.course.Model.order.OrderItemModel;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class OrderItemBatchRepositoryImpl implements OrderItemBatchRepository {
+
+    private static final int MAX_BATCH_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void persistAll(List<OrderItemModel> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(Math.min(items.size(), MAX_BATCH_SIZE));
+        try {
+            for (OrderItemModel item : items) {
+                entityManager.persist(item);
+            }
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+}
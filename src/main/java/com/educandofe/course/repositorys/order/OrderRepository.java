@@ -1,10 +1,14 @@
 package com.educandofe.course.repositorys.order;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.educandofe.course.Model.order.OrderModel;
+import com.educandofe.course.dto.order.OrderLineRow;
 
 public interface OrderRepository extends JpaRepository<OrderModel, Long> {
     
@@ -14,5 +18,72 @@ public interface OrderRepository extends JpaRepository<OrderModel, Long> {
      * @return Lista de pedidos do cliente
      */
     List<OrderModel> findByClientId(Long clientId);
+
+    /**
+     * Busca todos os pedidos já com cliente, pagamento e itens em uma única consulta.
+     * Os produtos dos itens ficam fora do join: saem do cache de segundo nível
+     * (catalog-product), e só os que faltam vão ao banco, em lote
+     * @return Lista de pedidos
+     */
+    @Query("select o from OrderModel o"
+        + " left join fetch o.client"
+        + " left join fetch o.payment"
+        + " left join fetch o.items")
+    List<OrderModel> findAllWithItems();
+
+    /**
+     * Busca os pedidos de um cliente já com pagamento e itens (produtos como em findAllWithItems)
+     * @param clientId ID do cliente
+     * @return Lista de pedidos do cliente
+     */
+    @Query("select o from OrderModel o"
+        + " left join fetch o.client c"
+        + " left join fetch o.payment"
+        + " left join fetch o.items"
+        + " where c.id = :clientId")
+    List<OrderModel> findWithItemsByClientId(@Param("clientId") Long clientId);
+
+    /**
+     * Busca um pedido já com cliente, pagamento e itens (produtos como em findAllWithItems)
+     * @param id ID do pedido
+     * @return Optional com o pedido se encontrado
+     */
+    @Query("select o from OrderModel o"
+        + " left join fetch o.client"
+        + " left join fetch o.payment"
+        + " left join fetch o.items"
+        + " where o.id = :id")
+    Optional<OrderModel> findWithItemsById(@Param("id") Long id);
+
+    /**
+     * Listagem de pedidos projetada direto nas colunas usadas pela tela:
+     * uma linha por item, sem hidratar UserModel/ProductModel
+     * @return Linhas ordenadas por pedido
+     */
+    @Query("select new com.educandofe.course.dto.order.OrderLineRow("
+        + " o.id, o.moment, o.orderStatus, c.name, c.email,"
+        + " p.id, p.name, p.imgUrl, i.quantity, i.price)"
+        + " from OrderModel o"
+        + " left join o.client c"
+        + " left join o.items i"
+        + " left join i.id.product p"
+        + " order by o.id")
+    List<OrderLineRow> findAllLines();
+
+    /**
+     * Mesma projeção de findAllLines, só com os pedidos do cliente
+     * @param clientId ID do cliente
+     * @return Linhas ordenadas por pedido
+     */
+    @Query("select new com.educandofe.course.dto.order.OrderLineRow("
+        + " o.id, o.moment, o.orderStatus, c.name, c.email,"
+        + " p.id, p.name, p.imgUrl, i.quantity, i.price)"
+        + " from OrderModel o"
+        + " join o.client c"
+        + " left join o.items i"
+        + " left join i.id.product p"
+        + " where c.id = :clientId"
+        + " order by o.id")
+    List<OrderLineRow> findLinesByClientId(@Param("clientId") Long clientId);
     
 }
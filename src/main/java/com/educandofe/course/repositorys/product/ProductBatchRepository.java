@@ -0,0 +1,21 @@
+package com.educandofe.course.repositorys.product;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.educandofe.course.Model.product.ProductModel;
+
+/**
+ * Carga de vários produtos por ID de uma só vez.
+ */
+public interface ProductBatchRepository {
+
+    /**
+     * Busca os produtos em uma única consulta.
+     * Usa o multiLoad do Hibernate, que reaproveita um plano de carga já
+     * compilado, em vez do findAllById, que monta uma Criteria a cada chamada.
+     * @param ids IDs dos produtos
+     * @return Produtos encontrados (IDs inexistentes são ignorados)
+     */
+    List<ProductModel> loadAllById(Collection<Long> ids);
+}
@@ -0,0 +1,32 @@
+package com.educandofe.course.repositorys.product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.Session;
+
+import com.educandofe.course.Model.product.ProductModel;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class ProductBatchRepositoryImpl implements ProductBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductModel> loadAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return entityManager.unwrap(Session.class)
+            .byMultipleIds(ProductModel.class)
+            .multiLoad(new ArrayList<>(ids))
+            .stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
@@ -1,8 +1,56 @@
 package com.educandofe.course.repositorys.product;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
 import com.educandofe.course.Model.product.ProductModel;
 
-public interface  ProductRepository extends JpaRepository<ProductModel, Long>{
+public interface  ProductRepository extends JpaRepository<ProductModel, Long>, JpaSpecificationExecutor<ProductModel>,
+        ProductBatchRepository {
+
+    /**
+     * Busca todos os produtos já com as categorias carregadas
+     * (o resultado fica em cache e é serializado fora da sessão)
+     * @return Lista de produtos
+     */
+    @Query("select distinct p from ProductModel p left join fetch p.categories")
+    List<ProductModel> findAllWithCategories();
+
+    /**
+     * Busca um produto já com as categorias carregadas
+     * @param id ID do produto
+     * @return Optional com o produto se encontrado
+     */
+    @Query("select p from ProductModel p left join fetch p.categories where p.id = :id")
+    Optional<ProductModel> findWithCategoriesById(@Param("id") Long id);
+
+    /**
+     * Conta os produtos que usam a imagem (referências do ImageSweeper)
+     * @param imgUrl URL da imagem
+     * @return Quantidade de produtos
+     */
+    long countByImgUrl(String imgUrl);
+
+    /**
+     * Grava as versões reduzidas só se o produto ainda usa a imagem de origem
+     * (um upload mais novo não perde as suas para as de um anterior)
+     * @param id ID do produto
+     * @param imgUrl Imagem de onde as versões foram geradas
+     * @return 1 se gravou, 0 se o produto não existe ou trocou de imagem
+     */
+    @Transactional
+    @Modifying
+    @Query("update ProductModel p set p.imageVariants.thumbnail = :thumbnail, p.imageVariants.card = :card, "
+        + "p.imageVariants.detail = :detail where p.id = :id and p.imgUrl = :imgUrl")
+    int updateImageVariantsIfUnchanged(@Param("id") Long id, @Param("imgUrl") String imgUrl,
+                                       @Param("thumbnail") String thumbnail, @Param("card") String card,
+                                       @Param("detail") String detail);
 
 }
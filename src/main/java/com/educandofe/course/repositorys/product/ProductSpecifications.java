@@ -0,0 +1,101 @@
+package com.educandofe.course.repositorys.product;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.dto.product.ProductCursor;
+import com.educandofe.course.dto.product.ProductSort;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Filtros do catálogo usados pela paginação por cursor.
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * Produtos associados à categoria (via tb_product_category)
+     * @param categoryId ID da categoria
+     */
+    public static Specification<ProductModel> inCategory(Long categoryId) {
+        return (root, query, cb) -> {
+            Join<ProductModel, CategoryModel> categories = root.join("categories");
+            return cb.equal(categories.get("id"), categoryId);
+        };
+    }
+
+    /**
+     * Produtos posicionados depois do cursor, dentro do trecho do cursor: os
+     * com valor na chave, ou os com a chave nula. O limite inferior
+     * (chave >= valor em ASC, chave <= valor em DESC) vem fora do OR para o
+     * banco buscar direto no índice (price, id) ou (name, id) e começar a
+     * leitura na página, em vez de descartar as linhas anteriores como faria
+     * um OFFSET. No trecho dos nulos a busca é por (chave IS NULL, id).
+     *
+     * Preço e nome podem ser nulos. A ordem dos nulos é a padrão do PostgreSQL
+     * (maiores que qualquer valor: no fim em ASC, no começo em DESC), a mesma
+     * que os índices entregam; o H2 dos testes é configurado igual
+     * (DEFAULT_NULL_ORDERING=HIGH). O outro trecho vem de {@link #nextSegment}.
+     * @param cursor Último produto da página anterior
+     */
+    public static Specification<ProductModel> after(ProductCursor cursor) {
+        return (root, query, cb) -> {
+            ProductSort sort = cursor.getSort();
+            boolean ascending = sort.getDirection().isAscending();
+            Predicate idAfter = beyond(cb, root.<Long>get("id"), cursor.getId(), ascending);
+
+            if (sort.getProperty() == null) {
+                return idAfter;
+            }
+            if (sort.getProperty().equals("price")) {
+                return keysetAfter(cb, root.<Double>get("price"), cursor.getPrice(), idAfter, ascending);
+            }
+            return keysetAfter(cb, root.<String>get("name"), cursor.getName(), idAfter, ascending);
+        };
+    }
+
+    /**
+     * Trecho que vem inteiro depois do trecho do cursor, para completar uma
+     * página que {@link #after} deixou incompleta: em ASC, os nulos depois de
+     * um cursor com valor; em DESC, os com valor depois de um cursor nulo.
+     * @param cursor Último produto da página anterior
+     * @return null quando nada vem depois do trecho do cursor
+     */
+    public static Specification<ProductModel> nextSegment(ProductCursor cursor) {
+        ProductSort sort = cursor.getSort();
+        if (sort.getProperty() == null) {
+            return null;
+        }
+        boolean nullCursor = sort.getProperty().equals("price")
+            ? cursor.getPrice() == null
+            : cursor.getName() == null;
+        if (sort.getDirection().isAscending() == nullCursor) {
+            return null;
+        }
+        return (root, query, cb) -> nullCursor
+            ? cb.isNotNull(root.get(sort.getProperty()))
+            : cb.isNull(root.get(sort.getProperty()));
+    }
+
+    private static <T extends Comparable<? super T>> Predicate keysetAfter(
+            CriteriaBuilder cb, Path<T> key, T value, Predicate idAfter, boolean ascending) {
+        if (value == null) {
+            return cb.and(cb.isNull(key), idAfter);
+        }
+        // (chave, id) depois de (valor, id): o limite da chave fica fora do OR e exclui os nulos
+        Predicate bound = ascending ? cb.greaterThanOrEqualTo(key, value) : cb.lessThanOrEqualTo(key, value);
+        return cb.and(bound, cb.or(beyond(cb, key, value, ascending), idAfter));
+    }
+
+    private static <T extends Comparable<? super T>> Predicate beyond(
+            CriteriaBuilder cb, Path<T> key, T value, boolean ascending) {
+        return ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+    }
+}
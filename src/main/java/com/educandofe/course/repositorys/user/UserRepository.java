@@ -1,7 +1,12 @@
 package com.educandofe.course.repositorys.user;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.educandofe.course.Model.user.UserModel;
 
@@ -14,4 +19,50 @@ public interface UserRepository  extends JpaRepository<UserModel, Long> {
      */
     Optional<UserModel> findByEmail(String email);
     
+    /**
+     * Verifica se já existe usuário com o email
+     * @param email Email do usuário
+     * @return true se existir
+     */
+    boolean existsByEmail(String email);
+    
+    /**
+     * Percorre os emails cadastrados sem carregar as entidades
+     * (exige transação aberta; fechar o Stream ao terminar)
+     * @return Stream de emails
+     */
+    @Query("select u.email from UserModel u where u.email is not null")
+    Stream<String> streamAllEmails();
+    
+    /**
+     * Troca o hash da senha só se ele ainda for o esperado (checagem otimista):
+     * se a senha foi alterada nesse meio tempo, nada é gravado
+     * @param id ID do usuário
+     * @param expectedHash Hash lido no login
+     * @param newHash Novo hash
+     * @return Quantidade de linhas atualizadas (0 ou 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("update UserModel u set u.password = :newHash where u.id = :id and u.password = :expectedHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("expectedHash") String expectedHash,
+                                  @Param("newHash") String newHash);
+    
+    /**
+     * Conta usuários com hash BCrypt de strength diferente do informado
+     * ou com senha fora do formato BCrypt
+     * @param strength Strength com dois dígitos (ex.: "10")
+     * @return Quantidade de usuários com hash desatualizado
+     */
+    @Query("select count(u) from UserModel u where u.password is not null "
+         + "and (u.password not like '$2_$%' or substring(u.password, 5, 2) <> :strength)")
+    long countOutdatedPasswords(@Param("strength") String strength);
+    
+    /**
+     * Conta os usuários que usam a imagem como foto de perfil (referências do ImageSweeper)
+     * @param profileImage URL da imagem
+     * @return Quantidade de usuários
+     */
+    long countByProfileImage(String profileImage);
+    
 }
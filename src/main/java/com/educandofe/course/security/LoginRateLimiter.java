@@ -0,0 +1,152 @@
+package com.educandofe.course.security;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.educandofe.course.services.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Limita tentativas de login por email e por IP (token bucket).
+ *
+ * Cada tentativa consome uma ficha do balde do IP e do balde do email; as fichas
+ * voltam a uma taxa fixa até a capacidade. Sem ficha, o login é recusado com 429
+ * antes de qualquer consulta ao banco ou comparação BCrypt.
+ *
+ * Os baldes ficam em caches Caffeine com tamanho máximo e expiração por
+ * inatividade, então a memória fica limitada mesmo com muitos emails/IPs
+ * diferentes. As atualizações usam um conjunto fixo de locks (striping);
+ * são ReentrantLock e não synchronized para não prender a thread portadora
+ * quando as requisições rodam em virtual threads.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final int STRIPES = 64;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final BucketPolicy emailPolicy;
+    private final BucketPolicy ipPolicy;
+    private final Cache<String, Bucket> emailBuckets;
+    private final Cache<String, Bucket> ipBuckets;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final LongSupplier ticker;
+
+    @Autowired
+    public LoginRateLimiter(
+            @Value("${security.login-limit.email.capacity:5}") int emailCapacity,
+            @Value("${security.login-limit.email.refill-period:PT1M}") Duration emailRefillPeriod,
+            @Value("${security.login-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${security.login-limit.ip.refill-period:PT1M}") Duration ipRefillPeriod,
+            @Value("${security.login-limit.max-keys:100000}") long maxKeys,
+            @Value("${security.login-limit.idle-timeout:PT15M}") Duration idleTimeout) {
+        this(new BucketPolicy(emailCapacity, emailRefillPeriod), new BucketPolicy(ipCapacity, ipRefillPeriod),
+            maxKeys, idleTimeout, System::nanoTime);
+    }
+
+    LoginRateLimiter(BucketPolicy emailPolicy, BucketPolicy ipPolicy, long maxKeys, Duration idleTimeout,
+                     LongSupplier ticker) {
+        this.emailPolicy = emailPolicy;
+        this.ipPolicy = ipPolicy;
+        this.ticker = ticker;
+        this.emailBuckets = newCache(maxKeys, idleTimeout, ticker);
+        this.ipBuckets = newCache(maxKeys, idleTimeout, ticker);
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Consome uma tentativa de login para o IP e para o email
+     * @param email Email informado (pode ser nulo)
+     * @param clientIp IP do cliente
+     * @throws TooManyRequestsException se algum dos limites foi atingido
+     */
+    public void acquire(String email, String clientIp) {
+        long now = ticker.getAsLong();
+
+        long waitNanos = tryConsume(ipBuckets, ipPolicy, clientIp, now);
+        if (waitNanos == 0 && email != null && !email.isBlank()) {
+            waitNanos = tryConsume(emailBuckets, emailPolicy, email.trim().toLowerCase(Locale.ROOT), now);
+        }
+
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+            throw new TooManyRequestsException(
+                "Muitas tentativas de login. Tente novamente em " + retryAfter + " segundos", retryAfter);
+        }
+    }
+
+    /**
+     * @return 0 se consumiu uma ficha, ou quantos nanossegundos faltam para a próxima
+     */
+    private long tryConsume(Cache<String, Bucket> buckets, BucketPolicy policy, String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        Bucket bucket = buckets.get(key, k -> new Bucket(policy.capacity, now));
+        ReentrantLock lock = locks[(key.hashCode() & 0x7fffffff) % STRIPES];
+        lock.lock();
+        try {
+            bucket.refill(policy, now);
+            if (bucket.tokens >= 1) {
+                bucket.tokens--;
+                return 0;
+            }
+            return (long) ((1 - bucket.tokens) * policy.nanosPerToken);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Cache<String, Bucket> newCache(long maxKeys, Duration idleTimeout, LongSupplier ticker) {
+        return Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(idleTimeout)
+            .ticker(ticker::getAsLong)
+            .build();
+    }
+
+    static final class BucketPolicy {
+        final int capacity;
+        final double nanosPerToken;
+
+        /**
+         * @param capacity Tentativas permitidas em rajada
+         * @param refillPeriod Tempo para o balde vazio encher de novo
+         */
+        BucketPolicy(int capacity, Duration refillPeriod) {
+            if (capacity < 1) {
+                throw new IllegalStateException("Capacidade do limite de login deve ser ao menos 1");
+            }
+            this.capacity = capacity;
+            this.nanosPerToken = (double) refillPeriod.toNanos() / capacity;
+        }
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long updatedAt;
+
+        Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        void refill(BucketPolicy policy, long now) {
+            long elapsed = now - updatedAt;
+            if (elapsed > 0) {
+                tokens = Math.min(policy.capacity, tokens + elapsed / policy.nanosPerToken);
+                updatedAt = now;
+            }
+        }
+    }
+}
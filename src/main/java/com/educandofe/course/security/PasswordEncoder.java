@@ -1,5 +1,11 @@
 package com.educandofe.course.security;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -12,28 +18,38 @@ import org.springframework.stereotype.Component;
  * - DIP: Outros componentes dependem desta abstração
  * 
  * BCrypt é um algoritmo de hash forte, projetado para ser lento
- * e resistente a ataques de força bruta.
+ * e resistente a ataques de força bruta. Por isso encode e matches rodam
+ * no PasswordHashExecutor, e não na thread da requisição.
  */
 @Component
 public class PasswordEncoder {
     
+    // $2a$10$ + 53 caracteres de salt e hash
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
     private final BCryptPasswordEncoder encoder;
+    private final PasswordHashExecutor hashExecutor;
+    private final int strength;
     
-    public PasswordEncoder() {
+    public PasswordEncoder(PasswordHashExecutor hashExecutor,
+                           @Value("${security.hashing.bcrypt-strength:10}") int strength) {
         // Strength padrão: 10 (quanto maior, mais lento e seguro)
-        this.encoder = new BCryptPasswordEncoder(10);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.hashExecutor = hashExecutor;
+        this.strength = strength;
     }
     
     /**
      * Codifica (hash) uma senha em texto plano
      * @param rawPassword Senha em texto plano
      * @return Hash BCrypt da senha
+     * @throws com.educandofe.course.services.exception.ServiceUnavailableException se o pool de hash estiver saturado
      */
     public String encode(String rawPassword) {
         if (rawPassword == null || rawPassword.trim().isEmpty()) {
             throw new IllegalArgumentException("Senha não pode ser vazia");
         }
-        return encoder.encode(rawPassword);
+        return hashExecutor.execute(() -> encoder.encode(rawPassword));
     }
     
     /**
@@ -41,21 +57,53 @@ public class PasswordEncoder {
      * @param rawPassword Senha em texto plano
      * @param encodedPassword Hash BCrypt armazenado
      * @return true se as senhas correspondem
+     * @throws com.educandofe.course.services.exception.ServiceUnavailableException se o pool de hash estiver saturado
      */
     public boolean matches(String rawPassword, String encodedPassword) {
         if (rawPassword == null || encodedPassword == null) {
             return false;
         }
-        return encoder.matches(rawPassword, encodedPassword);
+        return hashExecutor.execute(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+    
+    /**
+     * Gera o hash em segundo plano. O futuro completa na thread do pool de
+     * hash, então o que depender do resultado deve seguir em outro executor
+     * @param rawPassword Senha em texto plano
+     * @return Novo hash, ou vazio se o pool estava ocupado e nada foi agendado
+     */
+    public Optional<CompletableFuture<String>> encodeAsync(String rawPassword) {
+        return hashExecutor.trySubmit(() -> encoder.encode(rawPassword));
     }
     
     /**
      * Verifica se um hash precisa ser recodificado
-     * (útil para atualizar o strength ao longo do tempo)
+     * (strength diferente do configurado, para mais ou para menos)
      * @param encodedPassword Hash existente
      * @return true se precisa ser recodificado
      */
     public boolean needsUpgrade(String encodedPassword) {
-        return encoder.upgradeEncoding(encodedPassword);
+        Integer cost = strengthOf(encodedPassword);
+        return cost != null && cost != strength;
+    }
+    
+    /**
+     * Strength (cost) usado no hash informado
+     * @param encodedPassword Hash BCrypt
+     * @return Strength, ou null se não for um hash BCrypt
+     */
+    public Integer strengthOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return null;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+    
+    /**
+     * Strength configurado para os novos hashes
+     */
+    public int getStrength() {
+        return strength;
     }
 }
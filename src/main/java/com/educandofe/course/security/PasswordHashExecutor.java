@@ -0,0 +1,223 @@
+package com.educandofe.course.security;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.educandofe.course.dto.common.HashingStatsResponse;
+import com.educandofe.course.services.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pool dedicado para o BCrypt.
+ *
+ * Cada hash custa dezenas de milissegundos de CPU; rodando direto nas threads
+ * do Tomcat, uma rajada de logins ocupa todas elas e trava o resto da API.
+ * Aqui o hash roda em no máximo um thread por núcleo, com fila limitada:
+ * fila cheia (ou espera acima do timeout) vira 503 na hora, e as threads
+ * do Tomcat continuam livres para o catálogo.
+ *
+ * Métricas (MeterBinder): security.password.hash (tempo do hash),
+ * security.password.hash.wait (tempo na fila), fila, threads ocupadas
+ * e recusas por motivo.
+ */
+@Component
+public class PasswordHashExecutor implements MeterBinder {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private volatile Timer hashTimer;
+    private volatile Timer waitTimer;
+
+    public PasswordHashExecutor(
+            @Value("${security.hashing.threads:0}") int threads,
+            @Value("${security.hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${security.hashing.timeout-ms:5000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "bcrypt-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Executa o hash no pool e aguarda o resultado
+     * @param task Operação de hash (encode ou matches)
+     * @return Resultado da operação
+     * @throws ServiceUnavailableException se o pool estiver saturado ou o tempo de espera estourar
+     */
+    public <T> T execute(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                recordWait(startedAt - enqueuedAt);
+                try {
+                    return task.get();
+                } finally {
+                    recordHash(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCount.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Agenda um hash em segundo plano, sem esperar o resultado.
+     * Só entra se a fila estiver até a metade, para nunca tirar vaga dos logins.
+     * O futuro completa na thread do pool: o que vier depois do hash (gravar no
+     * banco, por exemplo) deve seguir em outro executor.
+     * @param task Operação de hash
+     * @return Resultado do hash, ou vazio se o pool estava ocupado demais e a tarefa foi descartada
+     */
+    public <T> Optional<CompletableFuture<T>> trySubmit(Supplier<T> task) {
+        if (executor.getQueue().size() > queueCapacity / 2) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    recordHash(System.nanoTime() - startedAt);
+                }
+            }, executor));
+        } catch (RejectedExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Estado atual do pool: profundidade da fila, rejeições e latência dos hashes
+     */
+    public HashingStatsResponse getStats() {
+        long count = hashCount.sum();
+        return new HashingStatsResponse(
+            executor.getMaximumPoolSize(),
+            executor.getActiveCount(),
+            executor.getQueue().size(),
+            queueCapacity,
+            count,
+            rejectedCount.sum(),
+            timeoutCount.sum(),
+            count == 0 ? 0 : toMillis(hashNanos.sum() / count),
+            toMillis(maxHashNanos.get()),
+            count == 0 ? 0 : toMillis(waitNanos.sum() / count));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        hashTimer = Timer.builder("security.password.hash")
+            .description("Tempo de CPU de cada hash BCrypt (encode ou matches)")
+            .publishPercentileHistogram()
+            .register(registry);
+        waitTimer = Timer.builder("security.password.hash.wait")
+            .description("Espera na fila do pool de BCrypt")
+            .publishPercentileHistogram()
+            .register(registry);
+        Gauge.builder("security.password.hash.queue", executor, pool -> pool.getQueue().size())
+            .description("Hashes aguardando na fila")
+            .register(registry);
+        Gauge.builder("security.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Threads do pool calculando hash")
+            .register(registry);
+        FunctionCounter.builder("security.password.hash.refused", rejectedCount, LongAdder::sum)
+            .description("Hashes recusados com 503")
+            .tag("reason", "queue_full")
+            .register(registry);
+        FunctionCounter.builder("security.password.hash.refused", timeoutCount, LongAdder::sum)
+            .description("Hashes recusados com 503")
+            .tag("reason", "timeout")
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private ServiceUnavailableException busy() {
+        return new ServiceUnavailableException(
+            "Servidor ocupado processando autenticações, tente novamente em instantes", RETRY_AFTER_SECONDS);
+    }
+
+    private void recordWait(long nanos) {
+        waitNanos.add(nanos);
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void recordHash(long nanos) {
+        hashCount.increment();
+        hashNanos.add(nanos);
+        maxHashNanos.accumulate(nanos);
+        Timer timer = hashTimer;
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
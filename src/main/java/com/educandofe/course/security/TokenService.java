@@ -0,0 +1,158 @@
+package com.educandofe.course.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emite e valida tokens de acesso assinados com HMAC-SHA256.
+ *
+ * Formato: {@code <kid>.<userId>.<expiraEmSegundos>.<assinatura>}. A validação
+ * só recalcula o HMAC e compara a expiração, sem banco nem cache, então qualquer
+ * instância da API valida o token de qualquer outra.
+ *
+ * Rotação de chave: cadastrar a chave nova em security.token.keys, trocar
+ * security.token.active-key para ela e remover a antiga depois do TTL.
+ * Enquanto a antiga estiver cadastrada, os tokens emitidos com ela continuam válidos.
+ */
+@Component
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final Map<String, ThreadLocal<Mac>> keys = new HashMap<>();
+    private final String activeKeyId;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(
+            @Value("${security.token.keys:}") String keys,
+            @Value("${security.token.active-key:}") String activeKeyId,
+            @Value("${security.token.ttl:PT12H}") Duration ttl) {
+        this(keys, activeKeyId, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * @param keys Chaves no formato {@code kid:segredoBase64,kid2:segredoBase64}
+     * @param activeKeyId Chave usada para assinar os tokens novos
+     * @param ttl Validade dos tokens
+     * @param clock Relógio usado na emissão e na validação
+     */
+    public TokenService(String keys, String activeKeyId, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+
+        if (keys == null || keys.isBlank()) {
+            // Sem chave configurada: tokens deixam de valer a cada restart e entre instâncias
+            log.warn("security.token.keys não configurado; usando chave aleatória só desta instância");
+            byte[] secret = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(secret);
+            this.keys.put("local", macFor(secret));
+            this.activeKeyId = "local";
+            return;
+        }
+
+        for (String entry : keys.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2 || parts[0].isBlank() || parts[0].contains(".")) {
+                throw new IllegalStateException("Chave de token inválida em security.token.keys: " + parts[0]);
+            }
+            byte[] secret = Base64.getDecoder().decode(parts[1].trim());
+            if (secret.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("Chave de token " + parts[0] + " precisa ter ao menos " + MIN_KEY_BYTES + " bytes");
+            }
+            this.keys.put(parts[0].trim(), macFor(secret));
+        }
+
+        if (!this.keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("security.token.active-key não está entre as chaves configuradas: " + activeKeyId);
+        }
+        this.activeKeyId = activeKeyId;
+    }
+
+    /**
+     * Gera um token para o usuário, assinado com a chave ativa
+     * @param userId ID do usuário
+     * @return Token assinado
+     */
+    public String issue(Long userId) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String content = activeKeyId + "." + userId + "." + expiresAt;
+        return content + "." + sign(keys.get(activeKeyId), content);
+    }
+
+    /**
+     * Valida assinatura e expiração do token
+     * @param token Token recebido
+     * @return ID do usuário, ou null se o token for inválido ou estiver expirado
+     */
+    public Long verify(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        int signatureStart = token.lastIndexOf('.');
+        int kidEnd = token.indexOf('.');
+        int userEnd = kidEnd < 0 ? -1 : token.indexOf('.', kidEnd + 1);
+        if (kidEnd <= 0 || userEnd < 0 || signatureStart <= userEnd) {
+            return null;
+        }
+
+        ThreadLocal<Mac> mac = keys.get(token.substring(0, kidEnd));
+        if (mac == null) {
+            return null;
+        }
+
+        String content = token.substring(0, signatureStart);
+        byte[] expected = sign(mac, content).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(signatureStart + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+
+        try {
+            long userId = Long.parseLong(token, kidEnd + 1, userEnd, 10);
+            long expiresAt = Long.parseLong(token, userEnd + 1, signatureStart, 10);
+            return clock.instant().getEpochSecond() < expiresAt ? userId : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String sign(ThreadLocal<Mac> mac, String content) {
+        return BASE64.encodeToString(mac.get().doFinal(content.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static ThreadLocal<Mac> macFor(byte[] secret) {
+        SecretKeySpec key = new SecretKeySpec(secret, ALGORITHM);
+        // Mac não é thread-safe: uma instância por thread
+        return ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC indisponível", e);
+            }
+        });
+    }
+}
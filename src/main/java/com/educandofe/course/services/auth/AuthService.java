@@ -1,24 +1,43 @@
 package com.educandofe.course.services.auth;
 
 import java.util.Optional;
-import java.util.UUID;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.monitoring.LogMask;
 import com.educandofe.course.repositorys.user.UserRepository;
 import com.educandofe.course.security.PasswordEncoder;
+import com.educandofe.course.security.TokenService;
+import com.educandofe.course.services.exception.DatabaseException;
+import com.educandofe.course.services.user.EmailBloomFilter;
 import com.educandofe.course.services.interfaces.IAuthService;
 
 @Service
 public class AuthService implements IAuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
+    private static final String EMAIL_TAKEN = "Email já cadastrado";
+
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private PasswordRehashService passwordRehashService;
+    
+    @Autowired
+    private TokenService tokenService;
+    
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
 
     /**
      * Autentica um usuário com email e senha
@@ -32,7 +51,11 @@ public class AuthService implements IAuthService {
         Optional<UserModel> userOpt = userRepository.findByEmail(email);
         
         if (userOpt.isEmpty()) {
-            System.out.println("Tentativa de login falhou: Email não encontrado - " + email);
+            log.atInfo()
+                .addKeyValue("event", "login.failed")
+                .addKeyValue("reason", "unknown_email")
+                .addKeyValue("email", LogMask.email(email))
+                .log("Tentativa de login falhou");
             throw new IllegalArgumentException("Email ou senha incorretos");
         }
         
@@ -40,11 +63,21 @@ public class AuthService implements IAuthService {
         
         // Validar senha usando BCrypt
         if (!passwordEncoder.matches(password, user.getPassword())) {
-            System.out.println("Tentativa de login falhou: Senha incorreta para email - " + email);
+            log.atInfo()
+                .addKeyValue("event", "login.failed")
+                .addKeyValue("reason", "wrong_password")
+                .addKeyValue("userId", user.getId())
+                .log("Tentativa de login falhou");
             throw new IllegalArgumentException("Email ou senha incorretos");
         }
         
-        System.out.println("Login bem-sucedido: " + user.getName() + " (" + email + ")");
+        // Recodifica em segundo plano se o strength do hash estiver desatualizado
+        passwordRehashService.rehashIfNeeded(user, password);
+        
+        log.atInfo()
+            .addKeyValue("event", "login.success")
+            .addKeyValue("userId", user.getId())
+            .log("Login bem-sucedido");
         return user;
     }
 
@@ -55,12 +88,12 @@ public class AuthService implements IAuthService {
      * @param phone Telefone do usuário
      * @param password Senha do usuário
      * @return UserModel criado
-     * @throws IllegalArgumentException se email já existe
+     * @throws DatabaseException se email já existe
      */
     public UserModel register(String name, String email, String phone, String password) {
-        // Verificar se email já existe
-        if (userRepository.findByEmail(email).isPresent()) {
-            throw new IllegalArgumentException("Email já cadastrado");
+        // Verificar se email já existe (o filtro evita a consulta para emails novos)
+        if (emailBloomFilter.mightContain(email) && userRepository.existsByEmail(email)) {
+            throw new DatabaseException(EMAIL_TAKEN);
         }
         
         // Criar novo usuário
@@ -73,22 +106,29 @@ public class AuthService implements IAuthService {
         String hashedPassword = passwordEncoder.encode(password);
         newUser.setPassword(hashedPassword);
         
-        UserModel savedUser = userRepository.save(newUser);
-        System.out.println("Novo usuário registrado: " + savedUser.getName() + " (" + email + ")");
+        UserModel savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // Cadastro simultâneo com o mesmo email: quem chegou depois para no índice único
+            throw new DatabaseException(EMAIL_TAKEN);
+        }
+        emailBloomFilter.put(email);
+        log.atInfo()
+            .addKeyValue("event", "signup")
+            .addKeyValue("userId", savedUser.getId())
+            .addKeyValue("email", LogMask.email(email))
+            .log("Novo usuário registrado");
         
         return savedUser;
     }
 
     /**
-     * Gera um token JWT simples (mock)
-     * Em produção, usar biblioteca JWT real como jjwt
+     * Gera um token de acesso assinado (HMAC), validado sem consulta ao banco
      * @param user Usuário autenticado
-     * @return Token JWT mock
+     * @return Token assinado
      */
     public String generateToken(UserModel user) {
-        // Token mock simples: user_id + timestamp + random
-        // Em produção, usar JWT real com claims, expiração, etc.
-        String token = "Bearer_" + user.getId() + "_" + System.currentTimeMillis() + "_" + UUID.randomUUID().toString().substring(0, 8);
-        return token;
+        return tokenService.issue(user.getId());
     }
 }
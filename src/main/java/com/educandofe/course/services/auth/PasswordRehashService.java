@@ -0,0 +1,87 @@
+package com.educandofe.course.services.auth;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.dto.common.RehashStatsResponse;
+import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.security.PasswordEncoder;
+
+/**
+ * Recodifica a senha com o strength atual depois de um login bem-sucedido.
+ *
+ * O novo hash é gerado no pool do BCrypt, fora da resposta do login, e gravado
+ * pelo PasswordRehashWriter em outro executor, só se o hash antigo ainda
+ * estiver no banco: se o usuário trocou a senha nesse meio tempo, o resultado
+ * é descartado.
+ */
+@Service
+public class PasswordRehashService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PasswordRehashWriter rehashWriter;
+
+    private final LongAdder rehashed = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Agenda a recodificação se o hash do usuário estiver com strength diferente do configurado
+     * @param user Usuário recém-autenticado
+     * @param rawPassword Senha em texto plano já validada
+     */
+    public void rehashIfNeeded(UserModel user, String rawPassword) {
+        String currentHash = user.getPassword();
+        if (!passwordEncoder.needsUpgrade(currentHash)) {
+            return;
+        }
+
+        Optional<CompletableFuture<String>> newHash = passwordEncoder.encodeAsync(rawPassword);
+        if (newHash.isEmpty()) {
+            // Pool ocupado: tenta de novo no próximo login
+            skipped.increment();
+            return;
+        }
+
+        Long userId = user.getId();
+        // Na thread do BCrypt só o agendamento da gravação; o UPDATE roda no executor do @Async
+        newHash.get()
+            .thenCompose(hash -> rehashWriter.write(userId, currentHash, hash))
+            .whenComplete((written, error) -> {
+                if (error != null) {
+                    failed.increment();
+                    log.warn("Falha ao gravar o novo hash do usuário {}", userId, error);
+                } else if (written) {
+                    rehashed.increment();
+                } else {
+                    conflicts.increment();
+                }
+            });
+    }
+
+    /**
+     * Quantos usuários ainda têm hash desatualizado e o que já foi recodificado
+     */
+    public RehashStatsResponse getStats() {
+        int strength = passwordEncoder.getStrength();
+        long outdated = userRepository.countOutdatedPasswords(String.format("%02d", strength));
+        return new RehashStatsResponse(strength, outdated, rehashed.sum(), conflicts.sum(),
+            skipped.sum(), failed.sum());
+    }
+}
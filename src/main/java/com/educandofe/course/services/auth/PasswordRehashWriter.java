@@ -0,0 +1,36 @@
+package com.educandofe.course.services.auth;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.educandofe.course.repositorys.user.UserRepository;
+
+/**
+ * Grava o hash gerado pelo PasswordRehashService.
+ *
+ * Roda no executor do @Async (applicationTaskExecutor), e não no pool do
+ * BCrypt: a espera por uma conexão do Hikari não pode prender uma thread de
+ * hash, que é o que os logins disputam.
+ */
+@Service
+public class PasswordRehashWriter {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Troca o hash só se o antigo ainda estiver no banco
+     * @param userId ID do usuário
+     * @param currentHash Hash lido no login
+     * @param newHash Hash com o strength atual
+     * @return false se a senha mudou nesse meio tempo e nada foi gravado
+     */
+    @Async
+    public CompletableFuture<Boolean> write(Long userId, String currentHash, String newHash) {
+        return CompletableFuture.completedFuture(
+            userRepository.updatePasswordIfUnchanged(userId, currentHash, newHash) == 1);
+    }
+}
@@ -1,13 +1,16 @@
 package com.educandofe.course.services.category;
 
-import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.config.CacheConfig;
 import com.educandofe.course.repositorys.category.CategoryRepository;
+import com.educandofe.course.services.common.JsonPrecompressor;
+import com.educandofe.course.services.common.PrecompressedJson;
 import com.educandofe.course.services.interfaces.ICategoryService;
 
 @Service
@@ -16,8 +19,12 @@ public class CategoryService implements ICategoryService {
     @Autowired
     private CategoryRepository categoryRepository;
 
-    public List<CategoryModel> findAll() {
-        return categoryRepository.findAll();
+    @Autowired
+    private JsonPrecompressor jsonPrecompressor;
+
+    @Cacheable(CacheConfig.CATEGORIES_JSON)
+    public PrecompressedJson findAllJson() {
+        return jsonPrecompressor.compress(categoryRepository.findAll());
     }
 
     public CategoryModel findById(Long id) {
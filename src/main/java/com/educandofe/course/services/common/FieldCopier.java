@@ -0,0 +1,164 @@
+package com.educandofe.course.services.common;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Copia os campos não nulos de uma instância para outra (atualização parcial).
+ *
+ * Os getters e setters de cada campo são resolvidos uma única vez e viram
+ * lambdas via {@link LambdaMetafactory}, então cada cópia é só uma sequência
+ * de chamadas diretas, sem {@code Field.get/set} nem {@code setAccessible}.
+ *
+ * @param <T> Tipo da entidade
+ */
+public final class FieldCopier<T> {
+
+    private final Class<T> type;
+    private final Accessor<T>[] accessors;
+    private final List<String> fieldNames;
+
+    private FieldCopier(Class<T> type, List<Accessor<T>> accessors) {
+        this.type = type;
+        @SuppressWarnings("unchecked")
+        Accessor<T>[] array = accessors.toArray(new Accessor[0]);
+        this.accessors = array;
+        List<String> names = new ArrayList<>();
+        for (Accessor<T> accessor : array) {
+            names.add(accessor.name);
+        }
+        this.fieldNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Monta o copiador para todos os campos de instância declarados em {@code type},
+     * exceto os ignorados. Cada campo copiado precisa de getter e setter públicos.
+     * @param type Classe da entidade
+     * @param ignoredFields Campos que não devem ser copiados
+     * @return Copiador pronto para uso
+     * @throws IllegalStateException se algum campo não tiver getter/setter
+     */
+    public static <T> FieldCopier<T> of(Class<T> type, String... ignoredFields) {
+        Set<String> ignored = new HashSet<>(Arrays.asList(ignoredFields));
+        List<Accessor<T>> accessors = new ArrayList<>();
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || ignored.contains(field.getName())) {
+                    continue;
+                }
+                Method getter = findGetter(type, field);
+                Method setter = type.getMethod(setterName(field), field.getType());
+                accessors.add(new Accessor<>(field.getName(), getterLambda(lookup, getter), setterLambda(lookup, setter)));
+            }
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Campo sem getter/setter público em " + type.getSimpleName() + ": " + e.getMessage(), e);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Não foi possível montar o copiador de " + type.getSimpleName(), e);
+        }
+
+        return new FieldCopier<>(type, accessors);
+    }
+
+    /**
+     * Copia para {@code target} todo campo de {@code source} que não seja nulo
+     * @param source Instância com os novos valores (pode ser nula)
+     * @param target Instância a ser atualizada
+     * @return Quantidade de campos copiados
+     */
+    public int copyNonNull(T source, T target) {
+        if (source == null) return 0;
+
+        int copied = 0;
+        for (Accessor<T> accessor : accessors) {
+            Object value = accessor.getter.apply(source);
+            if (value != null) {
+                accessor.setter.accept(target, value);
+                copied++;
+            }
+        }
+        return copied;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    private static Method findGetter(Class<?> type, Field field) throws NoSuchMethodException {
+        String suffix = capitalize(field.getName());
+        if (field.getType() == boolean.class) {
+            try {
+                return type.getMethod("is" + suffix);
+            } catch (NoSuchMethodException e) {
+                // segue para o getX()
+            }
+        }
+        return type.getMethod("get" + suffix);
+    }
+
+    private static String setterName(Field field) {
+        return "set" + capitalize(field.getName());
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, Object> getterLambda(MethodHandles.Lookup lookup, Method getter) throws Throwable {
+        MethodHandle handle = lookup.unreflect(getter);
+        CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+            MethodType.methodType(Function.class),
+            MethodType.methodType(Object.class, Object.class),
+            handle,
+            MethodType.methodType(wrap(getter.getReturnType()), getter.getDeclaringClass()));
+        return (Function<T, Object>) site.getTarget().invokeExact();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BiConsumer<T, Object> setterLambda(MethodHandles.Lookup lookup, Method setter) throws Throwable {
+        MethodHandle handle = lookup.unreflect(setter);
+        CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+            MethodType.methodType(BiConsumer.class),
+            MethodType.methodType(void.class, Object.class, Object.class),
+            handle,
+            MethodType.methodType(void.class, setter.getDeclaringClass(), wrap(setter.getParameterTypes()[0])));
+        return (BiConsumer<T, Object>) site.getTarget().invokeExact();
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static final class Accessor<T> {
+        final String name;
+        final Function<T, Object> getter;
+        final BiConsumer<T, Object> setter;
+
+        Accessor(String name, Function<T, Object> getter, BiConsumer<T, Object> setter) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.educandofe.course.services.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serializa com o ObjectMapper do Spring MVC (mesmo JSON que o controller
+ * devolveria) e comprime uma vez, em nível alto: o custo sai uma vez por
+ * entrada de cache, não por requisição (mas na thread da requisição que faltou
+ * no cache, por isso brotli 9 e não 11; ver JsonCompressionBenchmark). Brotli só se a biblioteca nativa do
+ * brotli4j carregar nesta plataforma; sem ela, fica gzip.
+ */
+@Component
+public class JsonPrecompressor {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonPrecompressor.class);
+
+    private final ObjectMapper objectMapper;
+    private final int gzipLevel;
+    private final Encoder.Parameters brotliParameters;
+    private final boolean brotliAvailable;
+
+    public JsonPrecompressor(ObjectMapper objectMapper,
+                             @Value("${compression.precompressed.gzip-level:9}") int gzipLevel,
+                             @Value("${compression.precompressed.brotli-quality:9}") int brotliQuality) {
+        this.objectMapper = objectMapper;
+        this.gzipLevel = gzipLevel;
+        this.brotliParameters = new Encoder.Parameters().setQuality(brotliQuality).setMode(Encoder.Mode.TEXT);
+        this.brotliAvailable = Brotli4jLoader.isAvailable();
+        if (!brotliAvailable) {
+            log.warn("Brotli indisponível nesta plataforma ({}); respostas pré-comprimidas só em gzip",
+                Brotli4jLoader.getUnavailabilityCause().getMessage());
+        }
+    }
+
+    /**
+     * Serializa e comprime
+     * @param value Objeto da resposta (lista de produtos, categorias)
+     * @return Corpo em JSON, gzip e brotli
+     */
+    public PrecompressedJson compress(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            byte[] brotli = brotliAvailable ? Encoder.compress(json, brotliParameters) : null;
+            return new PrecompressedJson(json, gzip(json, gzipLevel), brotli);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar resposta", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Comprime em gzip no nível dado (1 a 9; o Tomcat usa 6 por requisição)
+     */
+    public static byte[] gzip(byte[] data, int level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
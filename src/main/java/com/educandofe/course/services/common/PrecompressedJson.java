@@ -0,0 +1,116 @@
+package com.educandofe.course.services.common;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Corpo JSON já serializado e já comprimido (gzip e, se disponível, brotli).
+ *
+ * Fica no cache no lugar da lista de entidades: a cada requisição só se escolhe
+ * qual dos arrays mandar, sem serializar nem comprimir de novo. Montado pelo
+ * JsonPrecompressor.
+ */
+public class PrecompressedJson implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final byte[] brotli;
+
+    public PrecompressedJson(byte[] identity, byte[] gzip, byte[] brotli) {
+        this.identity = identity;
+        this.gzip = gzip;
+        this.brotli = brotli;
+    }
+
+    public byte[] getIdentity() {
+        return identity;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    /**
+     * Versão brotli, ou null se a biblioteca nativa não carregou nesta plataforma
+     */
+    public byte[] getBrotli() {
+        return brotli;
+    }
+
+    /**
+     * Resposta na melhor codificação aceita pelo cliente
+     * @param acceptEncoding Cabeçalho Accept-Encoding da requisição (pode ser nulo)
+     * @return 200 com o corpo em br, gzip ou sem compressão
+     */
+    public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+        String encoding = negotiate(acceptEncoding, brotli != null);
+        byte[] body = switch (encoding) {
+            case BROTLI -> brotli;
+            case GZIP -> gzip;
+            default -> identity;
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            // Caches intermediários guardam uma versão por codificação
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body != identity) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Escolhe a codificação pelo Accept-Encoding (RFC 9110): o maior q vence,
+     * br desempata com gzip por ser menor; q=0 recusa; "*" vale para as não citadas
+     * @return "br", "gzip" ou "identity"
+     */
+    static String negotiate(String acceptEncoding, boolean brotliAvailable) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return "identity";
+        }
+        double brotliQ = -1;
+        double gzipQ = -1;
+        double anyQ = -1;
+        for (String part : acceptEncoding.split(",")) {
+            String[] fields = part.split(";");
+            String coding = fields[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(fields);
+            switch (coding) {
+                case BROTLI -> brotliQ = q;
+                case GZIP, "x-gzip" -> gzipQ = Math.max(gzipQ, q);
+                case "*" -> anyQ = q;
+                default -> { }
+            }
+        }
+        brotliQ = brotliQ < 0 ? anyQ : brotliQ;
+        gzipQ = gzipQ < 0 ? anyQ : gzipQ;
+
+        if (brotliAvailable && brotliQ > 0 && brotliQ >= gzipQ) {
+            return BROTLI;
+        }
+        return gzipQ > 0 ? GZIP : "identity";
+    }
+
+    private static double quality(String[] fields) {
+        for (int i = 1; i < fields.length; i++) {
+            String parameter = fields[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
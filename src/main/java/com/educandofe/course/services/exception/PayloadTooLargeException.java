@@ -0,0 +1,10 @@
+package com.educandofe.course.services.exception;
+
+public class PayloadTooLargeException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public PayloadTooLargeException(String msg) {
+        super(msg);
+    }
+
+}
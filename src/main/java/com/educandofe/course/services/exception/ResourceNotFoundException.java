@@ -1,10 +1,16 @@
 package com.educandofe.course.services.exception;
 
+import java.util.Collection;
+
 public class ResourceNotFoundException extends RuntimeException {
     private static final long serialVersionUID = 1L;
 
     public ResourceNotFoundException(Object id) {
         super("No user record found with Id " + id);
     }
+
+    public ResourceNotFoundException(String resource, Collection<?> ids) {
+        super("No " + resource + " record found with Ids " + ids);
+    }
     
 }
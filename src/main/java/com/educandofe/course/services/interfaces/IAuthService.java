@@ -21,7 +21,8 @@ public interface IAuthService {
      * @param phone Telefone do usuário (opcional)
      * @param password Senha do usuário
      * @return UserModel criado
-     * @throws IllegalArgumentException se email já existe ou dados inválidos
+     * @throws IllegalArgumentException se dados inválidos
+     * @throws com.educandofe.course.services.exception.DatabaseException se email já existe
      */
     UserModel register(String name, String email, String phone, String password);
     
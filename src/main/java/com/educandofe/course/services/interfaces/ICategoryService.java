@@ -1,17 +1,16 @@
 package com.educandofe.course.services.interfaces;
 
-import java.util.List;
-
 import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.services.common.PrecompressedJson;
 
 
 public interface ICategoryService {
     
     /**
-     * Busca todas as categorias
-     * @return Lista de categorias
+     * Todas as categorias já serializadas em JSON e comprimidas (GET /categories)
+     * @return Corpo da resposta em cada codificação
      */
-    List<CategoryModel> findAll();
+    PrecompressedJson findAllJson();
     
     /**
      * Busca uma categoria por ID
@@ -30,6 +30,19 @@ public interface IOrderService {
      */
     List<OrderModel> findByClientId(Long clientId);
     
+    /**
+     * Lista todos os pedidos já como DTO, via projeção (sem carregar entidades)
+     * @return Lista de pedidos
+     */
+    List<OrderResponseDTO> findAllSummaries();
+    
+    /**
+     * Lista os pedidos de um cliente já como DTO, via projeção (sem carregar entidades)
+     * @param clientId ID do cliente
+     * @return Lista de pedidos do cliente
+     */
+    List<OrderResponseDTO> findSummariesByClientId(Long clientId);
+    
     /**
      * Cria um novo pedido
      * @param orderRequest Dados do pedido
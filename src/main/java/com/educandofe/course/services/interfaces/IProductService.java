@@ -1,17 +1,29 @@
 package com.educandofe.course.services.interfaces;
 
-import java.util.List;
-
+import com.educandofe.course.Model.product.ImageVariants;
 import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.dto.product.ProductPageResponse;
+import com.educandofe.course.services.common.PrecompressedJson;
 
 
 public interface IProductService {
     
     /**
-     * Busca todos os produtos
-     * @return Lista de produtos
+     * Todos os produtos já serializados em JSON e comprimidos (GET /products)
+     * @return Corpo da resposta em cada codificação
+     */
+    PrecompressedJson findAllJson();
+    
+    /**
+     * Busca uma página do catálogo usando paginação por cursor (keyset)
+     * @param categoryId ID da categoria para filtrar (opcional)
+     * @param sort Ordenação: relevance, price-asc, price-desc, name ou name-desc
+     * @param cursor Cursor retornado pela página anterior (opcional)
+     * @param limit Quantidade de produtos por página
+     * @return Página de produtos com o cursor da próxima página
+     * @throws IllegalArgumentException se ordenação, cursor ou limit forem inválidos
      */
-    List<ProductModel> findAll();
+    ProductPageResponse findPage(Long categoryId, String sort, String cursor, int limit);
     
     /**
      * Busca um produto por ID
@@ -36,6 +48,24 @@ public interface IProductService {
      */
     ProductModel update(ProductModel product);
     
+    /**
+     * Atualiza a URL da imagem de um produto
+     * @param id ID do produto
+     * @param imageUrl Nova URL da imagem
+     * @return Produto atualizado
+     * @throws com.educandofe.course.services.exception.ResourceNotFoundException se não encontrado
+     */
+    ProductModel updateImage(Long id, String imageUrl);
+    
+    /**
+     * Grava as versões reduzidas da imagem de um produto
+     * @param id ID do produto
+     * @param imageUrl Imagem de onde as versões foram geradas
+     * @param variants URLs das versões
+     * @return false se o produto não existe mais ou já trocou de imagem (nada é gravado)
+     */
+    boolean updateImageVariants(Long id, String imageUrl, ImageVariants variants);
+    
     /**
      * Deleta um produto por ID
      * @param id ID do produto
@@ -10,6 +10,8 @@ import com.educandofe.course.Model.order.OrderModel;
 import com.educandofe.course.Model.product.ProductModel;
 import com.educandofe.course.Model.user.UserModel;
 import com.educandofe.course.dto.order.OrderItemRequestDTO;
+import com.educandofe.course.dto.order.OrderItemResponseDTO;
+import com.educandofe.course.dto.order.OrderLineRow;
 import com.educandofe.course.dto.order.OrderRequestDTO;
 import com.educandofe.course.dto.order.OrderResponseDTO;
 import com.educandofe.course.repositorys.order.OrderItemRepository;
@@ -20,8 +22,15 @@ import com.educandofe.course.services.exception.ResourceNotFoundException;
 import com.educandofe.course.services.interfaces.IOrderService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService implements IOrderService {
@@ -39,16 +48,38 @@ public class OrderService implements IOrderService {
     private UserRepository userRepository;
 
     public List<OrderModel> findAll() {
-        return orderRepository.findAll();
+        return orderRepository.findAllWithItems();
     }
 
     public OrderModel findById(Long id) {
-        Optional<OrderModel> order = orderRepository.findById(id);
+        Optional<OrderModel> order = orderRepository.findWithItemsById(id);
         return order.orElseThrow(() -> new ResourceNotFoundException(id));
     }
 
     public List<OrderModel> findByClientId(Long clientId) {
-        return orderRepository.findByClientId(clientId);
+        return orderRepository.findWithItemsByClientId(clientId);
+    }
+
+    public List<OrderResponseDTO> findAllSummaries() {
+        return toResponses(orderRepository.findAllLines());
+    }
+
+    public List<OrderResponseDTO> findSummariesByClientId(Long clientId) {
+        return toResponses(orderRepository.findLinesByClientId(clientId));
+    }
+
+    /**
+     * Agrupa as linhas da projeção (uma por item) em um DTO por pedido
+     */
+    private List<OrderResponseDTO> toResponses(List<OrderLineRow> rows) {
+        Map<Long, OrderResponseDTO> orders = new LinkedHashMap<>();
+        for (OrderLineRow row : rows) {
+            OrderResponseDTO order = orders.computeIfAbsent(row.getOrderId(), id -> new OrderResponseDTO(row));
+            if (row.hasItem()) {
+                order.addItem(new OrderItemResponseDTO(row));
+            }
+        }
+        return new ArrayList<>(orders.values());
     }
 
     @Transactional
@@ -57,6 +88,9 @@ public class OrderService implements IOrderService {
         UserModel user = userRepository.findById(userId)
             .orElseThrow(() -> new ResourceNotFoundException(userId));
 
+        // Buscar todos os produtos do carrinho em uma única consulta
+        Map<Long, ProductModel> products = findProducts(orderRequest.getItems());
+
         // Criar pedido
         OrderModel order = new OrderModel();
         order.setMoment(LocalDateTime.now());
@@ -66,15 +100,15 @@ public class OrderService implements IOrderService {
         // Salvar pedido primeiro para obter o ID
         order = orderRepository.save(order);
 
-        // Adicionar itens
+        // Adicionar itens (gravados em um único lote JDBC)
+        List<OrderItemModel> orderItems = new ArrayList<>();
         for (OrderItemRequestDTO itemDTO : orderRequest.getItems()) {
-            ProductModel product = productRepository.findById(itemDTO.getProductId())
-                .orElseThrow(() -> new ResourceNotFoundException(itemDTO.getProductId()));
-
+            ProductModel product = products.get(itemDTO.getProductId());
             OrderItemModel orderItem = new OrderItemModel(order, product, itemDTO.getQuantity(), itemDTO.getPrice());
             order.getItems().add(orderItem);
-            orderItemRepository.save(orderItem);
+            orderItems.add(orderItem);
         }
+        orderItemRepository.persistAll(orderItems);
 
         // Criar resposta
         OrderResponseDTO response = new OrderResponseDTO(order);
@@ -87,6 +121,31 @@ public class OrderService implements IOrderService {
         return response;
     }
 
+    /**
+     * Carrega os produtos dos itens com uma única consulta
+     * @throws IllegalArgumentException se um produto aparecer em mais de um item
+     * @throws ResourceNotFoundException listando todos os IDs inexistentes
+     */
+    private Map<Long, ProductModel> findProducts(List<OrderItemRequestDTO> items) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (OrderItemRequestDTO itemDTO : items) {
+            if (!productIds.add(itemDTO.getProductId())) {
+                throw new IllegalArgumentException("Produto repetido no pedido: " + itemDTO.getProductId());
+            }
+        }
+
+        Map<Long, ProductModel> products = productRepository.loadAllById(productIds).stream()
+            .collect(Collectors.toMap(ProductModel::getId, Function.identity()));
+
+        List<Long> missingIds = productIds.stream()
+            .filter(id -> !products.containsKey(id))
+            .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("product", missingIds);
+        }
+        return products;
+    }
+
     @Transactional
     public void deleteOrder(Long id) {
         if (!orderRepository.existsById(id)) {
@@ -1,75 +1,169 @@
 package com.educandofe.course.services.product;
 
-import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.educandofe.course.Model.product.ImageVariants;
 import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.config.CacheConfig;
+import com.educandofe.course.dto.product.ProductCursor;
+import com.educandofe.course.dto.product.ProductPageResponse;
+import com.educandofe.course.dto.product.ProductSort;
 import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.repositorys.product.ProductSpecifications;
+import com.educandofe.course.services.common.FieldCopier;
+import com.educandofe.course.services.common.JsonPrecompressor;
+import com.educandofe.course.services.common.PrecompressedJson;
+import com.educandofe.course.services.exception.ResourceNotFoundException;
 import com.educandofe.course.services.interfaces.IProductService;
+import com.educandofe.course.services.upload.ImageSweeper;
 
 @Service
 public class ProductService implements IProductService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Campos que não devem ser atualizados automaticamente
+    private static final FieldCopier<ProductModel> PRODUCT_COPIER =
+        FieldCopier.of(ProductModel.class, "id", "categories", "items", "imageVariants");
+
     @Autowired
     private ProductRepository productRepository;
 
-    public List<ProductModel> findAll() {
-        return productRepository.findAll();
+    @Autowired
+    private ImageSweeper imageSweeper;
+
+    @Autowired
+    private JsonPrecompressor jsonPrecompressor;
+
+    @Cacheable(CacheConfig.PRODUCT_LIST_JSON)
+    public PrecompressedJson findAllJson() {
+        return jsonPrecompressor.compress(productRepository.findAllWithCategories());
+    }
+
+    public ProductPageResponse findPage(Long categoryId, String sort, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+
+        ProductSort productSort = ProductSort.fromParam(sort);
+        ProductCursor after = cursor != null && !cursor.isBlank() ? ProductCursor.decode(cursor, productSort) : null;
+        Specification<ProductModel> category = categoryId != null ? ProductSpecifications.inCategory(categoryId) : null;
+
+        // Busca uma linha a mais só para saber se existe próxima página (sem COUNT)
+        List<ProductModel> rows = fetch(category, after != null ? ProductSpecifications.after(after) : null,
+            productSort, limit + 1);
+        if (after != null && rows.size() <= limit) {
+            // O trecho do cursor acabou: completa com o trecho seguinte (nulos ou não nulos)
+            Specification<ProductModel> nextSegment = ProductSpecifications.nextSegment(after);
+            if (nextSegment != null) {
+                rows = new ArrayList<>(rows);
+                rows.addAll(fetch(category, nextSegment, productSort, limit + 1 - rows.size()));
+            }
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<ProductModel> content = hasNext ? new ArrayList<>(rows.subList(0, limit)) : rows;
+        String nextCursor = hasNext
+            ? ProductCursor.after(productSort, content.get(content.size() - 1)).encode()
+            : null;
+
+        return new ProductPageResponse(content, nextCursor, hasNext);
+    }
+
+    private List<ProductModel> fetch(Specification<ProductModel> category, Specification<ProductModel> position,
+            ProductSort sort, int limit) {
+        List<Specification<ProductModel>> filters = new ArrayList<>();
+        if (category != null) {
+            filters.add(category);
+        }
+        if (position != null) {
+            filters.add(position);
+        }
+        return productRepository.findBy(Specification.allOf(filters),
+            query -> query.sortBy(sort.toSort()).limit(limit).all());
     }
 
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS, key = "#id")
     public ProductModel findById(Long id) {
-        Optional<ProductModel> product = productRepository.findById(id);
-        return product.get();
+        Optional<ProductModel> product = productRepository.findWithCategoriesById(id);
+        return product.orElseThrow(() -> new ResourceNotFoundException(id));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_JSON, allEntries = true)
     public ProductModel create(ProductModel product) {
         product.setId(null); // Garantir que é um novo produto
         return productRepository.save(product);
     }
 
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#product.id"),
+        @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_JSON, allEntries = true)
+    })
     public ProductModel update(ProductModel product) {
-        ProductModel existingProduct = findById(product.getId());
+        // Busca direto no repositório: a instância em cache não pode ser alterada
+        ProductModel existingProduct = productRepository.findById(product.getId())
+            .orElseThrow(() -> new ResourceNotFoundException(product.getId()));
+        String previousImage = existingProduct.getImgUrl();
         updateData(existingProduct, product);
-        return productRepository.save(existingProduct);
+        if (previousImage != null && !previousImage.equals(existingProduct.getImgUrl())) {
+            // As versões reduzidas eram da imagem antiga
+            existingProduct.setImageVariants(null);
+        }
+        ProductModel saved = productRepository.save(existingProduct);
+        if (previousImage != null && !previousImage.equals(saved.getImgUrl())) {
+            imageSweeper.release(previousImage);
+        }
+        return saved;
     }
 
-    private void updateData(ProductModel entity, ProductModel product) {
-        if (product == null) return;
-
-        // Campos que não devem ser atualizados automaticamente
-        Set<String> ignoredFields = new HashSet<>(Arrays.asList(
-            "id", "categories", "orderItems", "serialVersionUID"
-        ));
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_JSON, allEntries = true)
+    })
+    public ProductModel updateImage(Long id, String imageUrl) {
+        ProductModel product = productRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(id));
+        String previousImage = product.getImgUrl();
+        product.setImgUrl(imageUrl);
+        // Até o ImageVariantService gerar as novas, o frontend usa imgUrl
+        product.setImageVariants(null);
+        ProductModel saved = productRepository.save(product);
+        if (previousImage != null && !previousImage.equals(imageUrl)) {
+            imageSweeper.release(previousImage);
+        }
+        return saved;
+    }
 
-        for (Field field : ProductModel.class.getDeclaredFields()) {
-            // Ignora campos da lista de ignorados
-            if (ignoredFields.contains(field.getName())) {
-                continue;
-            }
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_JSON, allEntries = true)
+    })
+    public boolean updateImageVariants(Long id, String imageUrl, ImageVariants variants) {
+        return productRepository.updateImageVariantsIfUnchanged(id, imageUrl,
+            variants.getThumbnail(), variants.getCard(), variants.getDetail()) > 0;
+    }
 
-            field.setAccessible(true);
-            try {
-                Object newValue = field.get(product);
-                // Só atualiza se o novo valor não for nulo
-                if (newValue != null) {
-                    field.set(entity, newValue);
-                }
-            } catch (IllegalAccessException e) {
-                // Log do erro, mas não interrompe o processo
-                System.err.println("Erro ao acessar campo: " + field.getName());
-            }
-        }
+    private void updateData(ProductModel entity, ProductModel product) {
+        PRODUCT_COPIER.copyNonNull(product, entity);
     }
 
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.PRODUCT_LIST_JSON, allEntries = true)
+    })
     public void delete(Long id) {
+        Optional<ProductModel> product = productRepository.findById(id);
         productRepository.deleteById(id);
+        product.ifPresent(p -> imageSweeper.release(p.getImgUrl()));
     }
 
 }
@@ -0,0 +1,352 @@
+package com.educandofe.course.services.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.educandofe.course.monitoring.UploadMetrics;
+import com.educandofe.course.services.exception.PayloadTooLargeException;
+
+/**
+ * Repositório de imagens endereçado pelo conteúdo, escrevendo cada byte uma vez só.
+ *
+ * O nome do arquivo é o SHA-256 do conteúdo, em pastas pelos dois primeiros
+ * pares de dígitos: uploads/images/9b/7e/9b7e...c1.webp. A mesma foto enviada
+ * para vários produtos ou usuários vira um arquivo só, e o arquivo nunca muda
+ * depois de gravado. Arquivos que ninguém mais referencia são removidos
+ * pelo ImageSweeper.
+ *
+ * Dois caminhos de entrada:
+ * - corpo cru (Content-Type image/*): o corpo da requisição vai direto para
+ *   um arquivo .part em uploads/.incoming por um FileChannel, com o SHA-256 e o
+ *   limite de tamanho calculados durante a cópia;
+ * - multipart: o Tomcat já gravou o arquivo em uploads/.incoming
+ *   (spring.servlet.multipart.location), então ele é renomeado em vez de
+ *   copiado, e o SHA-256 sai de uma leitura.
+ * Nos dois casos o .part só ganha o nome definitivo (rename atômico, mesmo disco)
+ * depois de completo: quem lê /uploads nunca vê arquivo pela metade. Se o
+ * conteúdo já existe, o .part é descartado.
+ */
+@Service
+public class ImageStorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageStorageService.class);
+
+    /** Pasta de uploads/ com os arquivos endereçados pelo conteúdo */
+    public static final String STORE = "images";
+
+    /** Pasta de uploads/ com os arquivos ainda sendo recebidos */
+    public static final String INCOMING = ".incoming";
+
+    private static final String STORE_URL_PREFIX = "/uploads/" + STORE + "/";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PART_SUFFIX = ".part";
+
+    private static final Map<String, String> EXTENSION_BY_TYPE = Map.of(
+        "image/jpeg", "jpg",
+        "image/png", "png",
+        "image/webp", "webp",
+        "image/gif", "gif");
+    private static final Set<String> EXTENSIONS = Set.of("jpg", "jpeg", "png", "webp", "gif");
+
+    private final Path root;
+    private final Path store;
+    private final Path incoming;
+    private final long maxBytes;
+    private final UploadMetrics uploadMetrics;
+
+    public ImageStorageService(@Value("${uploads.dir:uploads}") Path root,
+                               @Value("${uploads.max-size:10MB}") DataSize maxSize,
+                               UploadMetrics uploadMetrics) {
+        this.root = root.toAbsolutePath().normalize();
+        this.store = this.root.resolve(STORE);
+        this.incoming = this.root.resolve(INCOMING);
+        this.maxBytes = maxSize.toBytes();
+        this.uploadMetrics = uploadMetrics;
+    }
+
+    /**
+     * Grava o corpo de uma requisição com Content-Type de imagem
+     * @param target Destino da imagem, para as métricas (products, users)
+     * @param body Corpo da requisição, lido até o fim
+     * @param contentLength Content-Length informado, ou -1 se desconhecido (chunked)
+     * @param contentType Content-Type da requisição
+     * @return Imagem gravada
+     * @throws IllegalArgumentException se o tipo não for de imagem suportada ou o corpo vier vazio
+     * @throws PayloadTooLargeException se passar de uploads.max-size
+     */
+    public StoredImage store(String target, InputStream body, long contentLength, String contentType)
+            throws IOException {
+        String extension = extensionForType(contentType);
+        if (contentLength > maxBytes) {
+            throw tooLarge();
+        }
+
+        Path part = newPart();
+        MessageDigest sha256 = sha256();
+        long size = 0;
+        try (ReadableByteChannel in = Channels.newChannel(body);
+             FileChannel out = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                size += buffer.remaining();
+                if (size > maxBytes) {
+                    throw tooLarge();
+                }
+                sha256.update(buffer.array(), 0, buffer.limit());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("Arquivo vazio");
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+        return publish(target, part, extension, size, HexFormat.of().formatHex(sha256.digest()), "stream");
+    }
+
+    /**
+     * Grava um arquivo recebido em multipart/form-data
+     * @param target Destino da imagem, para as métricas (products, users)
+     * @param file Arquivo já recebido pelo Tomcat
+     * @return Imagem gravada
+     * @throws IllegalArgumentException se a extensão não for de imagem suportada ou o arquivo vier vazio
+     * @throws PayloadTooLargeException se passar de uploads.max-size
+     */
+    public StoredImage store(String target, MultipartFile file) throws IOException {
+        String extension = extensionOf(file.getOriginalFilename());
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo vazio");
+        }
+        if (file.getSize() > maxBytes) {
+            throw tooLarge();
+        }
+
+        Path part = newPart();
+        try {
+            // transferTo(File), e não (Path): só esta variante chega ao Part.write do
+            // Tomcat, que renomeia o arquivo temporário quando está no mesmo disco
+            file.transferTo(part.toFile());
+            return publish(target, part, extension, Files.size(part), checksum(part), "multipart");
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+    }
+
+    /**
+     * Pasta raiz dos uploads (uploads.dir), absoluta
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Pasta dos arquivos endereçados pelo conteúdo (uploads/images)
+     */
+    public Path getStore() {
+        return store;
+    }
+
+    /**
+     * Diz se a URL aponta para o repositório endereçado pelo conteúdo
+     * (as imagens antigas, com nome UUID em uploads/products e uploads/users, não)
+     */
+    public boolean isStored(String url) {
+        return url != null && url.startsWith(STORE_URL_PREFIX) && !url.contains("..");
+    }
+
+    /**
+     * Arquivo de uma URL do repositório
+     * @param url URL pública (/uploads/images/...)
+     * @return Caminho do arquivo, ou null se a URL não for do repositório
+     */
+    public Path pathOf(String url) {
+        if (!isStored(url)) {
+            return null;
+        }
+        Path path = store.resolve(url.substring(STORE_URL_PREFIX.length())).normalize();
+        return path.startsWith(store) ? path : null;
+    }
+
+    /**
+     * URL pública de um arquivo do repositório
+     */
+    public String urlOf(Path path) {
+        return STORE_URL_PREFIX + store.relativize(path).toString().replace('\\', '/');
+    }
+
+    /**
+     * Arquivo de uma versão reduzida, ao lado da original: 9b7e...c1-480w.jpg
+     * @param blob Arquivo original no repositório
+     * @param width Largura da versão
+     * @param extension Extensão da versão
+     */
+    public Path variantOf(Path blob, int width, String extension) {
+        return blob.resolveSibling(sha256Of(blob) + "-" + width + "w." + extension);
+    }
+
+    /**
+     * Versões reduzidas já gravadas de um arquivo do repositório
+     */
+    public List<Path> variantsOf(Path blob) throws IOException {
+        String prefix = sha256Of(blob) + "-";
+        try (Stream<Path> siblings = Files.list(blob.getParent())) {
+            return siblings.filter(path -> path.getFileName().toString().startsWith(prefix)).toList();
+        }
+    }
+
+    /**
+     * Grava um arquivo gerado (versão reduzida) com o mesmo cuidado dos uploads:
+     * escreve num .part e só então dá o nome final
+     * @param target Caminho final no repositório
+     * @param writer Escreve o conteúdo no .part
+     */
+    public void write(Path target, PartWriter writer) throws IOException {
+        Path part = newPart();
+        try {
+            writer.write(part);
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+    }
+
+    /**
+     * Escrita de um arquivo gerado, ver write(Path, PartWriter)
+     */
+    @FunctionalInterface
+    public interface PartWriter {
+        void write(Path part) throws IOException;
+    }
+
+    private static String sha256Of(Path blob) {
+        String name = blob.getFileName().toString();
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    private StoredImage publish(String target, Path part, String extension, long size, String sha256, String mode)
+            throws IOException {
+        Path blob = store.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4))
+            .resolve(sha256 + "." + extension);
+        Files.createDirectories(blob.getParent());
+
+        boolean deduplicated = false;
+        if (Files.exists(blob)) {
+            try {
+                // Conteúdo reaproveitado: a data nova segura o ImageSweeper até a referência ser gravada
+                Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+                deduplicated = true;
+            } catch (NoSuchFileException e) {
+                // O ImageSweeper apagou o arquivo depois do exists: vale a cópia recebida
+            }
+        }
+        if (deduplicated) {
+            Files.delete(part);
+        } else {
+            // Dois envios simultâneos do mesmo conteúdo: o segundo rename troca por bytes iguais
+            Files.move(part, blob, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        uploadMetrics.record(target, size);
+        if (deduplicated) {
+            uploadMetrics.deduplicated(target, size);
+        }
+        log.atInfo()
+            .addKeyValue("event", "upload.stored")
+            .addKeyValue("target", target)
+            .addKeyValue("mode", mode)
+            .addKeyValue("bytes", size)
+            .addKeyValue("sha256", sha256)
+            .addKeyValue("deduplicated", deduplicated)
+            .log("Imagem gravada");
+        return new StoredImage(urlOf(blob), blob, size, sha256, deduplicated);
+    }
+
+    private Path newPart() throws IOException {
+        // No mesmo disco do repositório, para o rename ser atômico
+        Files.createDirectories(incoming);
+        return incoming.resolve(UUID.randomUUID() + PART_SUFFIX);
+    }
+
+    /**
+     * SHA-256 do conteúdo de um arquivo, em hexadecimal
+     */
+    public static String checksum(Path file) throws IOException {
+        MessageDigest sha256 = sha256();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                sha256.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    private static String extensionForType(String contentType) {
+        String type = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+        String extension = EXTENSION_BY_TYPE.get(type);
+        if (extension == null) {
+            throw new IllegalArgumentException("Tipo de imagem não suportado: " + contentType
+                + " (use " + String.join(", ", EXTENSION_BY_TYPE.keySet()) + ")");
+        }
+        return extension;
+    }
+
+    private static String extensionOf(String filename) {
+        int dot = filename == null ? -1 : filename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!EXTENSIONS.contains(extension)) {
+            throw new IllegalArgumentException("Nome do arquivo inválido ou extensão não suportada: " + filename);
+        }
+        // Mesmo conteúdo, mesmo nome: .jpeg e .jpg viram um arquivo só
+        return extension.equals("jpeg") ? "jpg" : extension;
+    }
+
+    private PayloadTooLargeException tooLarge() {
+        return new PayloadTooLargeException("Arquivo maior que o limite de " + DataSize.ofBytes(maxBytes).toMegabytes() + " MB");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
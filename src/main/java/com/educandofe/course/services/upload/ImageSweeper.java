@@ -0,0 +1,181 @@
+package com.educandofe.course.services.upload;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.educandofe.course.monitoring.UploadMetrics;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.repositorys.user.UserRepository;
+
+/**
+ * Remove do repositório de imagens (uploads/images) os arquivos que nenhum
+ * produto ou usuário referencia mais.
+ *
+ * A contagem de referências não é guardada: sai das colunas tb_product.img_url e
+ * tb_user.profile_image (indexadas), então não há contador para ficar fora de
+ * sincronia com o banco. Quem troca ou apaga uma imagem chama release(url); a
+ * cada uploads.sweeper.interval as URLs liberadas são conferidas, e a cada
+ * uploads.sweeper.full-scan-interval o repositório inteiro é percorrido (pega o
+ * que escapou, ex.: aplicação reiniciada com URLs liberadas só na memória).
+ *
+ * Um arquivo só é apagado se, além de não ter referência, não foi gravado nem
+ * reaproveitado há menos de uploads.sweeper.grace: é o tempo entre o upload
+ * gravar o arquivo e a referência chegar ao banco. A data é relida depois da
+ * contagem, logo antes de apagar: um reenvio do mesmo conteúdo durante a
+ * contagem atualiza a data, e a referência dele ainda não aparece no banco.
+ */
+@Component
+public class ImageSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageSweeper.class);
+
+    // <sha256>.<extensão>; o resto (.part, arquivos de outras ferramentas) não é tocado
+    private static final Pattern BLOB_NAME = Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+
+    private final Set<String> released = ConcurrentHashMap.newKeySet();
+    private final ImageStorageService storage;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final UploadMetrics uploadMetrics;
+    private final Duration grace;
+
+    public ImageSweeper(ImageStorageService storage,
+                        ProductRepository productRepository,
+                        UserRepository userRepository,
+                        UploadMetrics uploadMetrics,
+                        @Value("${uploads.sweeper.grace:PT10M}") Duration grace) {
+        this.storage = storage;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.uploadMetrics = uploadMetrics;
+        this.grace = grace;
+    }
+
+    /**
+     * Avisa que uma imagem deixou de ser usada por um produto ou usuário
+     * @param url URL antiga (URLs fora de uploads/images são ignoradas)
+     */
+    public void release(String url) {
+        if (storage.isStored(url)) {
+            released.add(url);
+        }
+    }
+
+    /**
+     * Quantos produtos e usuários usam a imagem
+     */
+    public long referenceCount(String url) {
+        return productRepository.countByImgUrl(url) + userRepository.countByProfileImage(url);
+    }
+
+    /**
+     * Confere as imagens liberadas desde a última passada
+     * @return Quantidade de arquivos removidos
+     */
+    @Scheduled(fixedDelayString = "${uploads.sweeper.interval:PT1M}")
+    public int sweepReleased() {
+        int removed = 0;
+        for (String url : List.copyOf(released)) {
+            Path blob = storage.pathOf(url);
+            Outcome outcome = blob == null ? Outcome.KEPT : sweep(url, blob);
+            // Recente demais: fica para a próxima passada
+            if (outcome != Outcome.TOO_RECENT) {
+                released.remove(url);
+            }
+            if (outcome == Outcome.REMOVED) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Percorre o repositório inteiro atrás de arquivos sem referência
+     * @return Quantidade de arquivos removidos
+     */
+    @Scheduled(initialDelayString = "${uploads.sweeper.full-scan-initial-delay:PT5M}",
+            fixedDelayString = "${uploads.sweeper.full-scan-interval:PT24H}")
+    public int sweepAll() {
+        Path store = storage.getStore();
+        if (!Files.isDirectory(store)) {
+            return 0;
+        }
+        int removed = 0;
+        try (Stream<Path> files = Files.walk(store)) {
+            for (Path blob : (Iterable<Path>) files::iterator) {
+                if (BLOB_NAME.matcher(blob.getFileName().toString()).matches()
+                        && sweep(storage.urlOf(blob), blob) == Outcome.REMOVED) {
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao percorrer {}", store, e);
+        }
+        return removed;
+    }
+
+    private Outcome sweep(String url, Path blob) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(blob, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Outcome.KEPT;
+            }
+            // Recente já antes de contar: poupa as consultas
+            if (isRecent(attributes)) {
+                return Outcome.TOO_RECENT;
+            }
+            if (referenceCount(url) > 0) {
+                return Outcome.KEPT;
+            }
+            // Relê: o upload pode ter reaproveitado o arquivo enquanto as referências eram contadas
+            attributes = Files.readAttributes(blob, BasicFileAttributes.class);
+            if (isRecent(attributes)) {
+                return Outcome.TOO_RECENT;
+            }
+
+            Files.delete(blob);
+            long bytes = attributes.size();
+            // As versões reduzidas (ImageVariantService) não têm referência própria
+            for (Path variant : storage.variantsOf(blob)) {
+                bytes += Files.size(variant);
+                Files.deleteIfExists(variant);
+            }
+            uploadMetrics.reclaimed(bytes);
+            log.atInfo()
+                .addKeyValue("event", "upload.reclaimed")
+                .addKeyValue("url", url)
+                .addKeyValue("bytes", bytes)
+                .log("Imagem sem referência removida");
+            return Outcome.REMOVED;
+        } catch (NoSuchFileException e) {
+            return Outcome.KEPT;
+        } catch (IOException e) {
+            log.warn("Falha ao remover {}", blob, e);
+            return Outcome.KEPT;
+        }
+    }
+
+    private boolean isRecent(BasicFileAttributes attributes) {
+        return attributes.lastModifiedTime().toInstant().isAfter(Instant.now().minus(grace));
+    }
+
+    private enum Outcome {
+        REMOVED, KEPT, TOO_RECENT
+    }
+}
@@ -0,0 +1,278 @@
+package com.educandofe.course.services.upload;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.educandofe.course.Model.product.ImageVariants;
+import com.educandofe.course.services.interfaces.IProductService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Gera as versões reduzidas da imagem do produto depois do upload.
+ *
+ * Os cards do catálogo baixavam a original (às vezes centenas de KB) para
+ * mostrar 160 ou 480 px. Aqui cada imagem ganha três larguras fixas
+ * (thumbnail 160, card 480, detail 1024), gravadas ao lado da original no
+ * repositório (9b7e...c1-480w.jpg) e anotadas no produto (imageVariants).
+ *
+ * O upload não espera: a geração vai para um pool próprio com fila limitada.
+ * Fila cheia descarta o trabalho (o produto fica só com imgUrl, que continua
+ * válido); o pool não compete com o Tomcat por mais que uploads.variants.threads
+ * núcleos. Imagens que o ImageIO do JDK não decodifica (webp) ficam sem versões.
+ *
+ * Métricas (MeterBinder): uploads.variants (tempo por imagem),
+ * uploads.variants.queue e uploads.variants.dropped.
+ */
+@Service
+public class ImageVariantService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    public static final int THUMBNAIL_WIDTH = 160;
+    public static final int CARD_WIDTH = 480;
+    public static final int DETAIL_WIDTH = 1024;
+
+    private static final int[] WIDTHS = {THUMBNAIL_WIDTH, CARD_WIDTH, DETAIL_WIDTH};
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final ImageStorageService storage;
+    private final IProductService productService;
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile Timer generationTimer;
+
+    public ImageVariantService(ImageStorageService storage,
+                               IProductService productService,
+                               @Value("${uploads.variants.threads:2}") int threads,
+                               @Value("${uploads.variants.queue-capacity:32}") int queueCapacity,
+                               @Value("${uploads.variants.max-pixels:40000000}") long maxPixels) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.storage = storage;
+        this.productService = productService;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "image-variants-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Agenda a geração das versões de uma imagem recém-gravada e volta na hora
+     * @param productId Produto que passou a usar a imagem
+     * @param image Imagem gravada pelo ImageStorageService
+     * @return false se a fila estava cheia e nada foi agendado
+     */
+    public boolean submit(Long productId, StoredImage image) {
+        try {
+            executor.execute(() -> generateFor(productId, image));
+            return true;
+        } catch (RejectedExecutionException e) {
+            droppedCount.increment();
+            log.atWarn()
+                .addKeyValue("event", "upload.variants_dropped")
+                .addKeyValue("productId", productId)
+                .log("Fila de versões reduzidas cheia; produto fica só com a imagem original");
+            return false;
+        }
+    }
+
+    private void generateFor(Long productId, StoredImage image) {
+        long startedAt = System.nanoTime();
+        try {
+            ImageVariants variants = generate(image.getUrl(), image.getPath());
+            if (variants == null) {
+                return;
+            }
+            boolean applied = productService.updateImageVariants(productId, image.getUrl(), variants);
+            log.atInfo()
+                .addKeyValue("event", "upload.variants")
+                .addKeyValue("productId", productId)
+                .addKeyValue("applied", applied)
+                .addKeyValue("millis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .log("Versões reduzidas geradas");
+        } catch (IOException | RuntimeException e) {
+            log.atWarn()
+                .addKeyValue("event", "upload.variants_failed")
+                .addKeyValue("productId", productId)
+                .setCause(e)
+                .log("Falha ao gerar versões reduzidas");
+        } finally {
+            Timer timer = generationTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Gera (ou reaproveita, se já existem) as versões de uma imagem do repositório
+     * @param url URL da original
+     * @param original Arquivo da original
+     * @return URLs das versões, ou null se não houver decodificador para o formato
+     * @throws IllegalArgumentException se a imagem passar de uploads.variants.max-pixels
+     */
+    public ImageVariants generate(String url, Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                log.atInfo()
+                    .addKeyValue("event", "upload.variants_skipped")
+                    .addKeyValue("url", url)
+                    .log("Formato sem decodificador; imagem fica sem versões reduzidas");
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                // Confere as dimensões antes de decodificar: 10 MB de PNG podem virar GBs de pixels
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Imagem com " + width + "x" + height
+                        + " pixels, acima de uploads.variants.max-pixels");
+                }
+                boolean alpha = hasAlpha(reader);
+                String extension = alpha ? "png" : "jpg";
+
+                String[] urls = new String[WIDTHS.length];
+                BufferedImage source = null;
+                for (int i = 0; i < WIDTHS.length; i++) {
+                    if (width <= WIDTHS[i]) {
+                        // Sem ampliar: a original já serve
+                        urls[i] = url;
+                        continue;
+                    }
+                    Path target = storage.variantOf(original, WIDTHS[i], extension);
+                    if (!Files.exists(target)) {
+                        if (source == null) {
+                            source = reader.read(0);
+                        }
+                        BufferedImage resized = resize(source, WIDTHS[i], alpha);
+                        storage.write(target, part -> write(resized, extension, part));
+                    }
+                    urls[i] = storage.urlOf(target);
+                }
+                return new ImageVariants(urls[0], urls[1], urls[2]);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        generationTimer = Timer.builder("uploads.variants")
+            .description("Tempo para gerar as versões reduzidas de uma imagem")
+            .register(registry);
+        Gauge.builder("uploads.variants.queue", executor, pool -> pool.getQueue().size())
+            .description("Imagens esperando a geração das versões reduzidas")
+            .register(registry);
+        FunctionCounter.builder("uploads.variants.dropped", droppedCount, LongAdder::sum)
+            .description("Imagens sem versões reduzidas por fila cheia")
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static boolean hasAlpha(ImageReader reader) throws IOException {
+        ImageTypeSpecifier type = reader.getRawImageType(0);
+        if (type == null) {
+            Iterator<ImageTypeSpecifier> types = reader.getImageTypes(0);
+            type = types.hasNext() ? types.next() : null;
+        }
+        return type != null && type.getColorModel().hasAlpha();
+    }
+
+    /**
+     * Reduz para a largura pedida, mantendo a proporção
+     */
+    static BufferedImage resize(BufferedImage source, int width, boolean alpha) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        // No máximo metade por passo: bilinear direto de 4000 para 160 px pula pixels e serrilha
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!alpha) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    private static void write(BufferedImage image, String extension, Path part) throws IOException {
+        String format = extension.equals("jpg") ? "jpeg" : extension;
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(part.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format.equals("jpeg")) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
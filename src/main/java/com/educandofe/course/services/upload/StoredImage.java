@@ -0,0 +1,44 @@
+package com.educandofe.course.services.upload;
+
+import java.nio.file.Path;
+
+/**
+ * Imagem gravada em uploads/images: URL pública, arquivo, tamanho, SHA-256 do
+ * conteúdo e se o conteúdo já existia (nada novo gravado).
+ */
+public class StoredImage {
+
+    private final String url;
+    private final Path path;
+    private final long size;
+    private final String sha256;
+    private final boolean deduplicated;
+
+    public StoredImage(String url, Path path, long size, String sha256, boolean deduplicated) {
+        this.url = url;
+        this.path = path;
+        this.size = size;
+        this.sha256 = sha256;
+        this.deduplicated = deduplicated;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public boolean isDeduplicated() {
+        return deduplicated;
+    }
+}
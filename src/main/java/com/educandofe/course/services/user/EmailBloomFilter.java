@@ -0,0 +1,141 @@
+package com.educandofe.course.services.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.educandofe.course.repositorys.user.UserRepository;
+
+/**
+ * Filtro de Bloom com os emails cadastrados.
+ *
+ * Responde "com certeza não existe" ou "talvez exista": no cadastro, só o
+ * segundo caso vai ao banco. Não há falso negativo para emails registrados
+ * pela aplicação, e a unicidade de verdade é garantida pelo índice único de
+ * tb_user.email, então um falso positivo custa só uma consulta.
+ *
+ * O filtro é carregado logo depois que a aplicação sobe; até terminar,
+ * toda checagem vai ao banco. Emails removidos ou alterados continuam marcados
+ * (Bloom não remove), o que só gera falsos positivos.
+ */
+@Component
+public class EmailBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public EmailBloomFilter(
+            @Value("${users.email-filter.expected-users:1000000}") long expectedUsers,
+            @Value("${users.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        // Tamanho ótimo: m = -n ln(p) / (ln 2)^2 bits e k = m/n ln 2 funções de hash
+        long m = (long) Math.ceil(-expectedUsers * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedUsers * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    /**
+     * Carrega os emails existentes (roda depois da inicialização da aplicação)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.nanoTime();
+        long[] count = {0};
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(email -> {
+                put(email);
+                count[0]++;
+            });
+        }
+        ready = true;
+        log.info("Filtro de emails carregado com {} usuários em {} ms ({} bits, {} hashes)",
+            count[0], (System.nanoTime() - start) / 1_000_000, bitCount, hashCount);
+    }
+
+    /**
+     * Marca um email como cadastrado
+     * @param email Email do usuário
+     */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long[] hashes = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * @param email Email a verificar
+     * @return false se o email com certeza não está cadastrado; true se pode estar
+     */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        long[] hashes = hash(email);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Double hashing (Kirsch-Mitzenmacher): h1 + i*h2 gera as k posições
+    private long index(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+    }
+
+    // Dois hashes de 64 bits (FNV-1a + mistura do SplitMix64) sobre o email normalizado
+    private static long[] hash(String email) {
+        byte[] data = email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : data) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        long h1 = mix(h);
+        long h2 = mix(h ^ 0x9e3779b97f4a7c15L) | 1;
+        return new long[] { h1, h2 };
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
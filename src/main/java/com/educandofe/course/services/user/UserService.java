@@ -1,12 +1,10 @@
 package com.educandofe.course.services.user;
 
-import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
@@ -14,18 +12,32 @@ import org.springframework.stereotype.Service;
 import com.educandofe.course.Model.user.UserModel;
 import com.educandofe.course.repositorys.user.UserRepository;
 import com.educandofe.course.security.PasswordEncoder;
+import com.educandofe.course.services.common.FieldCopier;
 import com.educandofe.course.services.exception.DatabaseException;
 import com.educandofe.course.services.exception.ResourceNotFoundException;
 import com.educandofe.course.services.interfaces.IUserService;
+import com.educandofe.course.services.upload.ImageSweeper;
 
 @Service
 public class UserService implements IUserService {
 
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
+    // Campos que não devem ser atualizados automaticamente
+    private static final FieldCopier<UserModel> USER_COPIER =
+        FieldCopier.of(UserModel.class, "id", "password", "orders");
+
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    @Autowired
+    private ImageSweeper imageSweeper;
 
     public List<UserModel> findAll() {
         return userRepository.findAll();
@@ -37,15 +49,21 @@ public class UserService implements IUserService {
     }
     
     public UserModel insert(UserModel user) {
-        return userRepository.save(user);
+        try {
+            UserModel saved = userRepository.saveAndFlush(user);
+            emailBloomFilter.put(saved.getEmail());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw new DatabaseException("Email já cadastrado");
+        }
     }
 
     public void delete(Long id) {
         try {
-            if (!userRepository.existsById(id)) {
-                throw new ResourceNotFoundException(id);
-            }
+            UserModel user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(id));
             userRepository.deleteById(id);
+            imageSweeper.release(user.getProfileImage());
         } catch (DataIntegrityViolationException e) {
             throw new DatabaseException("Cannot delete user because there are related records");
         }
@@ -56,50 +74,34 @@ public class UserService implements IUserService {
             // Usa findById em vez de getReferenceById para evitar proxy lazy
             UserModel entity = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(id));
+            String previousImage = entity.getProfileImage();
             updateData(entity, user);
-            return userRepository.save(entity);
+            UserModel saved = userRepository.save(entity);
+            emailBloomFilter.put(saved.getEmail());
+            if (previousImage != null && !previousImage.equals(saved.getProfileImage())) {
+                imageSweeper.release(previousImage);
+            }
+            return saved;
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
-            System.err.println("Erro ao atualizar usuário: " + e.getMessage());
-            e.printStackTrace();
+            log.atError()
+                .addKeyValue("event", "user.update_failed")
+                .addKeyValue("userId", id)
+                .setCause(e)
+                .log("Erro ao atualizar usuário");
             throw new DatabaseException("Erro ao atualizar usuário: " + e.getMessage());
         }
     }
 
     private void updateData(UserModel entity, UserModel user) {
-        if (user == null) return;
-
-        // Campos que não devem ser atualizados automaticamente
-        Set<String> ignoredFields = new HashSet<>(Arrays.asList(
-            "id", "password", "orders", "serialVersionUID"
-        ));
-
-        System.out.println("=== Iniciando atualização de usuário ID: " + entity.getId() + " ===");
-
-        for (Field field : UserModel.class.getDeclaredFields()) {
-            // Ignora campos da lista de ignorados
-            if (ignoredFields.contains(field.getName())) {
-                continue;
-            }
-
-            field.setAccessible(true);
-            try {
-                Object newValue = field.get(user);
-                // Só atualiza se o novo valor não for nulo
-                if (newValue != null) {
-                    Object oldValue = field.get(entity);
-                    field.set(entity, newValue);
-                    System.out.println("Campo atualizado: " + field.getName() + 
-                                     " | Antigo: " + oldValue + " | Novo: " + newValue);
-                }
-            } catch (IllegalAccessException e) {
-                // Log do erro, mas não interrompe o processo
-                System.err.println("Erro ao acessar campo: " + field.getName() + " - " + e.getMessage());
-            }
-        }
-        
-        System.out.println("=== Finalizado atualização de usuário ===");
+        int updated = USER_COPIER.copyNonNull(user, entity);
+        // Só a quantidade de campos: valores antigos/novos são dados pessoais
+        log.atInfo()
+            .addKeyValue("event", "user.updated")
+            .addKeyValue("userId", entity.getId())
+            .addKeyValue("fields", updated)
+            .log("Usuário atualizado");
     }
 
     /**
@@ -133,7 +135,10 @@ public class UserService implements IUserService {
         user.setPassword(hashedPassword);
         userRepository.save(user);
         
-        System.out.println("Senha alterada com sucesso para usuário ID: " + id);
+        log.atInfo()
+            .addKeyValue("event", "password.changed")
+            .addKeyValue("userId", id)
+            .log("Senha alterada");
     }
 
 }
@@ -0,0 +1,122 @@
+-- Esquema base (equivalente ao gerado pelo Hibernate para as entidades atuais)
+--
+-- Bancos que já existiam antes do Flyway não rodam este script: com
+-- spring.flyway.baseline-on-migrate=true eles são marcados na versão 1 e seguem
+-- a partir da V2 (a V5 troca IDENTITY por sequences e a V6 cria os índices do
+-- catálogo que só o ddl-auto=update criava neles).
+
+create sequence tb_category_seq start with 1 increment by 50;
+
+create sequence tb_order_seq start with 1 increment by 50;
+
+create sequence tb_product_seq start with 1 increment by 50;
+
+create sequence tb_user_seq start with 1 increment by 50;
+
+create table payments_model (
+    moment timestamp(6),
+    order_id bigint not null,
+    primary key (order_id)
+);
+
+create table tb_category (
+    id bigint not null,
+    name varchar(255),
+    primary key (id)
+);
+
+create table tb_order (
+    order_status integer,
+    client_id bigint,
+    id bigint not null,
+    moment TIMESTAMP WITHOUT TIME ZONE,
+    primary key (id)
+);
+
+create table tb_order_item (
+    price float(53),
+    quantity integer,
+    order_id bigint not null,
+    product_id bigint not null,
+    primary key (order_id, product_id)
+);
+
+create table tb_product (
+    price float(53),
+    id bigint not null,
+    description varchar(255),
+    img_url varchar(255),
+    name varchar(255),
+    primary key (id)
+);
+
+create table tb_product_category (
+    category_id bigint not null,
+    product_id bigint not null,
+    primary key (category_id, product_id)
+);
+
+create table tb_user (
+    id bigint not null,
+    address varchar(255),
+    birth_date varchar(255),
+    city varchar(255),
+    complement varchar(255),
+    email varchar(255),
+    house_number varchar(255),
+    name varchar(255),
+    neighborhood varchar(255),
+    password varchar(255),
+    phone varchar(255),
+    profile_image varchar(255),
+    state varchar(255),
+    store_name varchar(255),
+    zip_code varchar(255),
+    primary key (id),
+    constraint uk_user_email unique (email)
+);
+
+create index idx_order_client_id
+   on tb_order (client_id);
+
+create index idx_order_moment
+   on tb_order (moment);
+
+create index idx_product_price_id
+   on tb_product (price, id);
+
+create index idx_product_name_id
+   on tb_product (name, id);
+
+create index idx_product_category_product
+   on tb_product_category (product_id, category_id);
+
+alter table if exists payments_model
+   add constraint FKke3e5ddpmbbjd453dhtwurmv
+   foreign key (order_id)
+   references tb_order;
+
+alter table if exists tb_order
+   add constraint FKi0x0rv7d65vsceuy33km9567n
+   foreign key (client_id)
+   references tb_user;
+
+alter table if exists tb_order_item
+   add constraint FK4h5xid5qehset7qwe5l9c997x
+   foreign key (product_id)
+   references tb_product;
+
+alter table if exists tb_order_item
+   add constraint FKgeobgl2xu916he8vhljktwxnx
+   foreign key (order_id)
+   references tb_order;
+
+alter table if exists tb_product_category
+   add constraint FK5r4sbavb4nkd9xpl0f095qs2a
+   foreign key (category_id)
+   references tb_category;
+
+alter table if exists tb_product_category
+   add constraint FKgbof0jclmaf8wn2alsoexxq3u
+   foreign key (product_id)
+   references tb_product;
@@ -0,0 +1,22 @@
+-- Índices das consultas mais frequentes
+--
+-- tb_user.email           -> UserRepository.findByEmail / existsByEmail (login e cadastro)
+-- tb_order.client_id      -> OrderRepository.findByClientId e pedidos do usuário
+-- tb_order.moment         -> listagens por data
+-- tb_product_category     -> lado produto -> categorias (a PK começa por category_id)
+--
+-- CONCURRENTLY não bloqueia escritas nas tabelas; o Flyway roda este script fora
+-- de transação. IF NOT EXISTS deixa o script sem efeito em bancos criados pela V1.
+-- Se o índice único falhar por emails repetidos, o PostgreSQL deixa o uk_user_email
+-- INVALID (não garante nada) e o Flyway marca a V2 como falha. Para refazer:
+-- resolver os repetidos (consulta em db/scripts/add_user_email_unique.sql), rodar
+-- flyway repair e subir de novo; o callback beforeMigrate.sql remove o índice
+-- inválido antes, senão o IF NOT EXISTS o manteria.
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_user_email ON tb_user (email);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_client_id ON tb_order (client_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_moment ON tb_order (moment);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_category_product ON tb_product_category (product_id, category_id);
@@ -0,0 +1,13 @@
+-- Índices das referências às imagens
+--
+-- tb_product.img_url      -> ProductRepository.countByImgUrl
+-- tb_user.profile_image   -> UserRepository.countByProfileImage
+--
+-- O ImageSweeper conta as referências de cada imagem de uploads/images antes de
+-- apagar o arquivo; sem índice, cada contagem percorreria a tabela inteira.
+-- CONCURRENTLY não bloqueia escritas nas tabelas; o Flyway roda este script fora
+-- de transação.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_img_url ON tb_product (img_url);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_profile_image ON tb_user (profile_image);
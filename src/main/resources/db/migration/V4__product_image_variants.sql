@@ -0,0 +1,10 @@
+-- Versões reduzidas da imagem do produto
+--
+-- Preenchidas pelo ImageVariantService depois do upload (thumbnail 160 px,
+-- card 480 px, detail 1024 px de largura); nulas até lá, e o frontend usa img_url.
+
+ALTER TABLE tb_product ADD COLUMN IF NOT EXISTS img_thumbnail_url varchar(255);
+
+ALTER TABLE tb_product ADD COLUMN IF NOT EXISTS img_card_url varchar(255);
+
+ALTER TABLE tb_product ADD COLUMN IF NOT EXISTS img_detail_url varchar(255);
@@ -0,0 +1,54 @@
+-- IDs por sequence (alocação em blocos de 50, GenerationType.SEQUENCE)
+--
+-- Bancos criados pela V1 já têm as sequences; nos que entraram pelo baseline a
+-- troca de IDENTITY por sequence era um script manual (db/scripts). Se ele não
+-- tivesse rodado, o ddl-auto=update criava tb_*_seq começando em 1 e os inserts
+-- batiam em IDs existentes. Este script é idempotente e serve para os dois casos.
+--
+-- Cada sequence só avança: vai para depois do maior ID existente ou, se já foi
+-- usada, para depois do último bloco entregue (last_value + 50), nunca para trás.
+-- Ela vira o DEFAULT da coluna, então inserts antigos (que omitem o id) continuam
+-- funcionando. A aplicação usa o otimizador pooled-lo: cada nextval reserva o
+-- bloco [valor, valor + 49], e um insert legado consome só o primeiro ID do
+-- próprio bloco, então os dois nunca geram o mesmo ID.
+-- payments_model usa o ID do pedido (@MapsId) e não precisa de sequence.
+
+-- tb_user
+CREATE SEQUENCE IF NOT EXISTS tb_user_seq INCREMENT BY 50;
+ALTER SEQUENCE tb_user_seq INCREMENT BY 50;
+SELECT setval('tb_user_seq', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM tb_user),
+    (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM tb_user_seq)), false);
+ALTER TABLE tb_user ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_user ALTER COLUMN id SET DEFAULT nextval('tb_user_seq');
+ALTER SEQUENCE tb_user_seq OWNED BY tb_user.id;
+
+-- tb_category
+CREATE SEQUENCE IF NOT EXISTS tb_category_seq INCREMENT BY 50;
+ALTER SEQUENCE tb_category_seq INCREMENT BY 50;
+SELECT setval('tb_category_seq', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM tb_category),
+    (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM tb_category_seq)), false);
+ALTER TABLE tb_category ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_category ALTER COLUMN id SET DEFAULT nextval('tb_category_seq');
+ALTER SEQUENCE tb_category_seq OWNED BY tb_category.id;
+
+-- tb_product
+CREATE SEQUENCE IF NOT EXISTS tb_product_seq INCREMENT BY 50;
+ALTER SEQUENCE tb_product_seq INCREMENT BY 50;
+SELECT setval('tb_product_seq', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM tb_product),
+    (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM tb_product_seq)), false);
+ALTER TABLE tb_product ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_product ALTER COLUMN id SET DEFAULT nextval('tb_product_seq');
+ALTER SEQUENCE tb_product_seq OWNED BY tb_product.id;
+
+-- tb_order
+CREATE SEQUENCE IF NOT EXISTS tb_order_seq INCREMENT BY 50;
+ALTER SEQUENCE tb_order_seq INCREMENT BY 50;
+SELECT setval('tb_order_seq', GREATEST(
+    (SELECT COALESCE(MAX(id), 0) + 1 FROM tb_order),
+    (SELECT CASE WHEN is_called THEN last_value + 50 ELSE last_value END FROM tb_order_seq)), false);
+ALTER TABLE tb_order ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tb_order ALTER COLUMN id SET DEFAULT nextval('tb_order_seq');
+ALTER SEQUENCE tb_order_seq OWNED BY tb_order.id;
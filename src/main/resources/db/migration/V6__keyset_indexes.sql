@@ -0,0 +1,12 @@
+-- Índices da paginação por cursor do catálogo (ProductSpecifications.after)
+--
+-- tb_product (price, id)  -> sort=price-asc / price-desc
+-- tb_product (name, id)   -> sort=name / name-desc
+--
+-- Bancos criados pela V1 já os têm; nos que entraram pelo baseline só o
+-- ddl-auto=update os criava. CONCURRENTLY não bloqueia escritas na tabela; o
+-- Flyway roda este script fora de transação.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_price_id ON tb_product (price, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_name_id ON tb_product (name, id);
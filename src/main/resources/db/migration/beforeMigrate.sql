@@ -0,0 +1,27 @@
+-- Callback do Flyway: roda antes de cada migrate
+--
+-- Um CREATE INDEX CONCURRENTLY que falha (por exemplo, o uk_user_email da V2 com
+-- emails repetidos) deixa o índice para trás marcado como INVALID. Na nova
+-- tentativa o IF NOT EXISTS o encontraria e pularia a criação, e a unicidade
+-- ficaria sem valer. Aqui os índices criados pelas migrações que estiverem
+-- inválidos são removidos, para a migração recriá-los.
+
+DO $$
+DECLARE
+    invalid record;
+BEGIN
+    FOR invalid IN
+        SELECT c.relname
+        FROM pg_index i
+        JOIN pg_class c ON c.oid = i.indexrelid
+        JOIN pg_namespace n ON n.oid = c.relnamespace
+        WHERE NOT i.indisvalid
+          AND n.nspname = current_schema()
+          AND c.relname IN ('uk_user_email', 'idx_order_client_id', 'idx_order_moment',
+                            'idx_product_category_product', 'idx_product_img_url',
+                            'idx_user_profile_image', 'idx_product_price_id', 'idx_product_name_id')
+    LOOP
+        RAISE WARNING 'Removendo índice inválido % (CREATE INDEX CONCURRENTLY anterior falhou)', invalid.relname;
+        EXECUTE format('DROP INDEX %I', invalid.relname);
+    END LOOP;
+END $$;
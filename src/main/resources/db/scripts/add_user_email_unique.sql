@@ -0,0 +1,11 @@
+-- Script para garantir email único em tb_user
+-- Execute este script ANTES de subir a versão que trata o cadastro duplicado pelo índice
+--
+-- O índice é criado com CONCURRENTLY para não bloquear escritas na tabela
+-- (não pode rodar dentro de uma transação). Se já houver emails repetidos a
+-- criação falha; a consulta abaixo lista os casos para resolver antes.
+
+-- Emails repetidos (deve retornar vazio)
+SELECT email, COUNT(*) FROM tb_user WHERE email IS NOT NULL GROUP BY email HAVING COUNT(*) > 1;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_user_email ON tb_user (email);
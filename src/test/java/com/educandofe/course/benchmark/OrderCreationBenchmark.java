@@ -0,0 +1,158 @@
+package com.educandofe.course.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.educandofe.course.Model.common.Enums.OrderStatus;
+import com.educandofe.course.Model.order.OrderItemModel;
+import com.educandofe.course.Model.order.OrderModel;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.dto.order.OrderItemRequestDTO;
+import com.educandofe.course.dto.order.OrderRequestDTO;
+import com.educandofe.course.dto.order.ShippingAddressDTO;
+import com.educandofe.course.repositorys.order.OrderItemRepository;
+import com.educandofe.course.repositorys.order.OrderRepository;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.services.interfaces.IOrderService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compara a criação de pedidos em lote (OrderService.createOrder) com o
+ * caminho antigo de um findById + save por item, para vários tamanhos de carrinho.
+ * Roda contra o H2 em memória, sem latência de rede: no PostgreSQL cada comando
+ * a menos economiza também uma ida e volta pela rede.
+ * Rodar com: ./mvnw test -Pbenchmark -Dtest=OrderCreationBenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class OrderCreationBenchmark {
+
+    private static final int[] CART_SIZES = {1, 5, 10, 30, 100};
+    private static final int WARMUP = 100;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private IOrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void compareCartSizes() {
+        List<Long> productIds = seedProducts(CART_SIZES[CART_SIZES.length - 1]);
+        Long userId = userRepository.findAll().get(0).getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Aquece os dois caminhos em todos os tamanhos antes de medir qualquer um
+        for (int cartSize : CART_SIZES) {
+            OrderRequestDTO request = cart(productIds.subList(0, cartSize));
+            for (int i = 0; i < WARMUP; i++) {
+                orderService.createOrder(request, userId);
+                transactionTemplate.executeWithoutResult(status -> createOrderPerItem(request, userId));
+            }
+        }
+
+        System.out.println("cart size | batched stmts | batched p50 (us) | per-item stmts | per-item p50 (us)");
+        List<Long> batchedStatements = new ArrayList<>();
+        for (int cartSize : CART_SIZES) {
+            OrderRequestDTO request = cart(productIds.subList(0, cartSize));
+
+            Result batched = measure(statistics, r -> orderService.createOrder(r, userId), request);
+            Result perItem = measure(statistics,
+                r -> transactionTemplate.executeWithoutResult(status -> createOrderPerItem(r, userId)), request);
+
+            batchedStatements.add(batched.statements);
+            System.out.printf("%9d | %13d | %16d | %14d | %17d%n",
+                cartSize, batched.statements, batched.p50Micros, perItem.statements, perItem.p50Micros);
+        }
+
+        // O número de comandos do caminho em lote não pode crescer com o carrinho
+        long first = batchedStatements.get(0);
+        assertTrue(batchedStatements.stream().allMatch(count -> count == first),
+            "Comandos JDBC por pedido variaram com o tamanho do carrinho: " + batchedStatements);
+    }
+
+    private Result measure(Statistics statistics, Consumer<OrderRequestDTO> create, OrderRequestDTO request) {
+        long[] timings = new long[ITERATIONS];
+        statistics.clear();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            create.accept(request);
+            timings[i] = System.nanoTime() - start;
+        }
+        long statements = statistics.getPrepareStatementCount() / ITERATIONS;
+
+        Arrays.sort(timings);
+        return new Result(statements, timings[ITERATIONS / 2] / 1_000);
+    }
+
+    /**
+     * Caminho anterior: uma consulta e um save por item do carrinho
+     */
+    private void createOrderPerItem(OrderRequestDTO request, Long userId) {
+        UserModel user = userRepository.findById(userId).orElseThrow();
+        OrderModel order = orderRepository.save(new OrderModel(null, LocalDateTime.now(), OrderStatus.WAITING_PAYMENT, user));
+        for (OrderItemRequestDTO itemDTO : request.getItems()) {
+            ProductModel product = productRepository.findById(itemDTO.getProductId()).orElseThrow();
+            OrderItemModel orderItem = new OrderItemModel(order, product, itemDTO.getQuantity(), itemDTO.getPrice());
+            order.getItems().add(orderItem);
+            orderItemRepository.save(orderItem);
+        }
+    }
+
+    private List<Long> seedProducts(int count) {
+        List<ProductModel> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(new ProductModel(null, "Benchmark " + i, "Produto de benchmark", 10.0 + i, null));
+        }
+        return productRepository.saveAll(products).stream().map(ProductModel::getId).toList();
+    }
+
+    private OrderRequestDTO cart(List<Long> productIds) {
+        List<OrderItemRequestDTO> items = productIds.stream()
+            .map(id -> new OrderItemRequestDTO(id, 1, 10.0))
+            .toList();
+        ShippingAddressDTO address = new ShippingAddressDTO("Cliente", "(11) 99999-9999", "Rua A", "1",
+            null, "Centro", "São Paulo", "SP", "01000-000");
+        return new OrderRequestDTO(items, address, "PIX", 0.0, 0.0, 0.0);
+    }
+
+    private record Result(long statements, long p50Micros) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.educandofe.course.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class SchemaIndexCheckTest {
+
+    @Autowired
+    private SchemaIndexCheck schemaIndexCheck;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void reportsOnlyMissingIndexes() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            assertEquals(List.of(), schemaIndexCheck.findMissingIndexes(connection.getMetaData()));
+
+            statement.execute("drop index idx_order_moment");
+            try {
+                assertEquals(List.of("tb_order(moment)"), schemaIndexCheck.findMissingIndexes(connection.getMetaData()));
+            } finally {
+                statement.execute("create index idx_order_moment on tb_order (moment)");
+            }
+
+            // Índice da paginação por cursor: precisa das duas colunas, na ordem
+            statement.execute("drop index idx_product_price_id");
+            try {
+                statement.execute("create index idx_product_price_only on tb_product (price)");
+                assertEquals(List.of("tb_product(price, id)"), schemaIndexCheck.findMissingIndexes(connection.getMetaData()));
+            } finally {
+                statement.execute("drop index idx_product_price_only");
+                statement.execute("create index idx_product_price_id on tb_product (price, id)");
+            }
+
+            // Só o PostgreSQL tem índices inválidos
+            assertEquals(List.of(), schemaIndexCheck.findInvalidIndexes(connection));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.educandofe.course.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.Model.order.OrderItemModel;
+import com.educandofe.course.Model.order.OrderModel;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.repositorys.category.CategoryRepository;
+import com.educandofe.course.repositorys.order.OrderRepository;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.services.order.OrderService;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.configuration.TypesafeConfigurator;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cache de segundo nível do catálogo: o produto de cada item de pedido e a
+ * listagem de categorias saem da memória a partir da segunda leitura, e
+ * escritas pelo Hibernate não deixam entradas velhas para trás.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    private static final String PRODUCT_REGION = "catalog-product";
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    void orderItemProductsAreLoadedFromCache() {
+        Long orderId = transaction.execute(status -> orderRepository.findAll().stream()
+            .filter(order -> order.getItems().size() > 1)
+            .findFirst().orElseThrow().getId());
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        List<String> cold = productNames(orderId);
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(PRODUCT_REGION);
+        assertEquals(cold.size(), region.getPutCount());
+        assertEquals(0, region.getHitCount());
+        long coldStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<String> warm = productNames(orderId);
+        region = statistics.getDomainDataRegionStatistics(PRODUCT_REGION);
+
+        assertEquals(cold, warm);
+        assertEquals(warm.size(), region.getHitCount());
+        assertEquals(0, region.getMissCount());
+        assertEquals(coldStatements - 1, statistics.getPrepareStatementCount(),
+            "Os produtos dos itens não deveriam ir ao banco com o cache quente");
+    }
+
+    @Test
+    void orderListingResolvesItemProductsFromCache() {
+        List<String> cold = allProductNames();
+        assertTrue(statistics.getDomainDataRegionStatistics(PRODUCT_REGION).getPutCount() > 0);
+
+        statistics.clear();
+        List<String> warm = allProductNames();
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(PRODUCT_REGION);
+
+        assertEquals(cold, warm);
+        assertTrue(region.getHitCount() > 0);
+        assertEquals(0, region.getMissCount());
+        assertEquals(1, statistics.getPrepareStatementCount(),
+            "Com o cache quente, só a consulta dos pedidos vai ao banco");
+    }
+
+    @Test
+    void writesUpdateTheCachedProduct() {
+        Long id = transaction.execute(status ->
+            productRepository.save(new ProductModel(null, "Produto de cache", "Teste", 10.0, null)).getId());
+        assertEquals("Produto de cache", productName(id));
+
+        transaction.executeWithoutResult(status -> productRepository.findById(id).orElseThrow().setName("Renomeado"));
+        statistics.clear();
+
+        assertEquals("Renomeado", productName(id));
+        assertEquals(1, statistics.getDomainDataRegionStatistics(PRODUCT_REGION).getHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void categoryListingUsesQueryCacheUntilCategoriesChange() {
+        int before = categories().size();
+        statistics.clear();
+
+        assertEquals(before, categories().size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        transaction.executeWithoutResult(status -> categoryRepository.save(new CategoryModel(null, "Nova categoria")));
+        statistics.clear();
+
+        assertEquals(before + 1, categories().size());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertTrue(statistics.getQueryCacheMissCount() > 0);
+    }
+
+    @Test
+    void updateTimestampsRegionNeverDropsEntries() {
+        Config config = ConfigFactory.parseResources("hibernate-cache.conf")
+            .withFallback(ConfigFactory.defaultReference()).resolve();
+        CaffeineConfiguration<Object, Object> region =
+            TypesafeConfigurator.<Object, Object>from(config, "default-update-timestamps-region").orElseThrow();
+
+        assertEquals(OptionalLong.of(10_000), region.getMaximumSize());
+        assertFalse(region.getExpireAfterWrite().isPresent());
+        assertFalse(region.getExpireAfterAccess().isPresent());
+    }
+
+    private List<String> productNames(Long orderId) {
+        return names(List.of(orderService.findById(orderId)));
+    }
+
+    private List<String> allProductNames() {
+        return names(orderService.findAll());
+    }
+
+    private static List<String> names(List<OrderModel> orders) {
+        return orders.stream()
+            .flatMap(order -> order.getItems().stream())
+            .map(OrderItemModel::getProduct)
+            .map(ProductModel::getName)
+            .sorted()
+            .toList();
+    }
+
+    private String productName(Long id) {
+        return transaction.execute(status -> productRepository.findById(id).orElseThrow().getName());
+    }
+
+    private List<CategoryModel> categories() {
+        return transaction.execute(status -> categoryRepository.findAll());
+    }
+}
@@ -0,0 +1,116 @@
+package com.educandofe.course.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.educandofe.course.services.upload.ImageStorageService;
+import com.educandofe.course.services.upload.StoredImage;
+
+/**
+ * /uploads/**: cache longo e ETag pelo nome para arquivos endereçados pelo
+ * conteúdo, ETag do conteúdo para os antigos, 304 sem ir ao disco e Range.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UploadCacheValidatorsTest {
+
+    @TempDir
+    static Path uploads;
+
+    @DynamicPropertySource
+    static void uploadProperties(DynamicPropertyRegistry registry) {
+        registry.add("uploads.dir", uploads::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageStorageService storage;
+
+    @Test
+    void contentNamedFilesAreImmutableAndRevalidatedWithoutDisk() throws Exception {
+        byte[] image = bytes(5000);
+        StoredImage stored = storage.store("products", new ByteArrayInputStream(image), image.length, "image/png");
+        String etag = "\"" + stored.getSha256() + "\"";
+
+        mockMvc.perform(get(stored.getUrl()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+            .andExpect(content().bytes(image));
+
+        mockMvc.perform(get(stored.getUrl()).header(HttpHeaders.RANGE, "bytes=100-199"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/5000"))
+            .andExpect(content().bytes(Arrays.copyOfRange(image, 100, 200)));
+
+        // Sem o arquivo: o 304 sai só do nome
+        Files.delete(stored.getPath());
+        mockMvc.perform(get(stored.getUrl()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+        mockMvc.perform(get(stored.getUrl()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void legacyFilesGetContentEtagComputedOnce() throws Exception {
+        byte[] image = bytes(3000);
+        Path legacy = Files.createDirectories(uploads.resolve("products")).resolve("0f8c2d1e-antiga.jpg");
+        Files.write(legacy, image);
+        String etag = "\"" + ImageStorageService.checksum(legacy) + "\"";
+
+        mockMvc.perform(get("/uploads/products/0f8c2d1e-antiga.jpg"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"));
+
+        Files.delete(legacy);
+        mockMvc.perform(get("/uploads/products/0f8c2d1e-antiga.jpg").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"));
+        mockMvc.perform(get("/uploads/products/0f8c2d1e-antiga.jpg").header(HttpHeaders.IF_NONE_MATCH, "\"outro\""))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void onlyImageFoldersArePublic() throws Exception {
+        Path incoming = uploads.resolve(ImageStorageService.INCOMING);
+        Files.createDirectories(incoming);
+        Files.write(incoming.resolve("envio.part"), bytes(100));
+        Files.write(uploads.resolve("solto.jpg"), bytes(100));
+
+        mockMvc.perform(get("/uploads/" + ImageStorageService.INCOMING + "/envio.part"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/solto.jpg"))
+            .andExpect(status().isNotFound());
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
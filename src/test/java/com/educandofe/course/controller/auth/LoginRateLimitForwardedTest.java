@@ -0,0 +1,59 @@
+package com.educandofe.course.controller.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Atrás do proxy (aqui, a própria máquina: loopback é proxy confiável), o
+ * limite por IP usa o cliente do X-Forwarded-For, e não o endereço do proxy:
+ * esgotar o balde de um cliente não bloqueia os outros.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "management.server.port=0",
+        "security.login-limit.ip.capacity=3",
+        "security.login-limit.email.capacity=100"
+    })
+@ActiveProfiles("test")
+class LoginRateLimitForwardedTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Test
+    void ipBucketIsKeyedOnTheForwardedClient() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertNotEquals(429, login("203.0.113.10"));
+        }
+        assertEquals(429, login("203.0.113.10"));
+        // Mesmo proxy, outro cliente: balde próprio
+        assertNotEquals(429, login("203.0.113.20"));
+        // O último endereço da cadeia é o que o proxy confiável viu
+        assertEquals(429, login("198.51.100.7, 203.0.113.10"));
+    }
+
+    private int login(String forwardedFor) throws Exception {
+        String body = "{\"email\":\"limite" + sequence.incrementAndGet() + "@email.com\",\"password\":\"Senha123\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+            .header("Content-Type", "application/json")
+            .header("X-Forwarded-For", forwardedFor)
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
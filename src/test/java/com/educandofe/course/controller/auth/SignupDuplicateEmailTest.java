@@ -0,0 +1,72 @@
+package com.educandofe.course.controller.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SignupDuplicateEmailTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void duplicateSignupReturnsConflict() throws Exception {
+        mockMvc.perform(signup("duplicado@email.com")).andExpect(status().isOk());
+
+        mockMvc.perform(signup("duplicado@email.com"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Email já cadastrado"));
+    }
+
+    @Test
+    void concurrentSignupsWithSameEmailAreSettledByTheUniqueIndex() throws Exception {
+        int attempts = 6;
+        ExecutorService pool = Executors.newFixedThreadPool(attempts);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                tasks.add(() -> mockMvc.perform(signup("corrida@email.com")).andReturn().getResponse().getStatus());
+            }
+
+            int ok = 0;
+            int conflict = 0;
+            for (Future<Integer> result : pool.invokeAll(tasks)) {
+                int code = result.get();
+                if (code == 200) ok++;
+                if (code == 409) conflict++;
+            }
+
+            assertEquals(1, ok);
+            assertEquals(attempts - 1, conflict);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static RequestBuilder signup(String email) {
+        return post("/auth/signup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"name\":\"Cliente Teste\",\"email\":\"" + email + "\",\"phone\":\"11999999999\","
+                + "\"password\":\"Senha123\",\"confirmPassword\":\"Senha123\"}");
+    }
+}
@@ -0,0 +1,139 @@
+package com.educandofe.course.controller.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.educandofe.course.Model.common.Enums.OrderStatus;
+import com.educandofe.course.Model.order.OrderItemModel;
+import com.educandofe.course.Model.order.OrderModel;
+import com.educandofe.course.Model.payment.PaymentsModel;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.repositorys.order.OrderItemRepository;
+import com.educandofe.course.repositorys.order.OrderRepository;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.security.TokenService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Garante que a listagem de pedidos não volte a fazer N+1:
+ * o número de comandos SQL não pode depender da quantidade de pedidos,
+ * e a listagem não deve hidratar entidades.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrderControllerQueryCountTest {
+
+    private static final int EXTRA_ORDERS = 40;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UserModel client;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        client = userRepository.findAll().get(0);
+        if (orderRepository.count() < EXTRA_ORDERS) {
+            seedOrders();
+        }
+    }
+
+    @Test
+    void findAllUsesConstantNumberOfQueries() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/orders")).andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount(),
+            "GET /orders deve carregar pedidos, itens, produtos e clientes em uma consulta");
+        assertEquals(0, statistics.getEntityLoadCount(),
+            "GET /orders deve usar projeção, sem hidratar entidades");
+    }
+
+    @Test
+    void findByClientUsesConstantNumberOfQueries() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/orders").header("Authorization", "Bearer " + tokenService.issue(client.getId()))).andExpect(status().isOk());
+
+        assertEquals(1, statistics.getPrepareStatementCount(),
+            "GET /orders do cliente deve carregar tudo em uma consulta");
+        assertEquals(0, statistics.getEntityLoadCount(),
+            "GET /orders do cliente deve usar projeção, sem hidratar entidades");
+    }
+
+    @Test
+    void findByIdUsesSingleQueryOnceProductsAreCached() throws Exception {
+        Long orderId = orderRepository.findAll().get(0).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        mockMvc.perform(get("/orders/{id}", orderId)).andExpect(status().isOk());
+        // Produtos fora do cache: uma consulta a mais, em lote
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        mockMvc.perform(get("/orders/{id}", orderId)).andExpect(status().isOk());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private void seedOrders() {
+        List<ProductModel> products = productRepository.findAll();
+        List<OrderModel> orders = new ArrayList<>();
+        for (int i = 0; i < EXTRA_ORDERS; i++) {
+            OrderModel order = new OrderModel(null, LocalDateTime.now().minusHours(i), OrderStatus.PAID, client);
+            order.setPayment(new PaymentsModel(null, LocalDateTime.now(), order));
+            orders.add(order);
+        }
+        orders = orderRepository.saveAll(orders);
+
+        List<OrderItemModel> items = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                ProductModel product = products.get((i + j) % products.size());
+                items.add(new OrderItemModel(orders.get(i), product, j + 1, product.getPrice()));
+            }
+        }
+        orderItemRepository.persistAll(items);
+    }
+}
@@ -0,0 +1,136 @@
+package com.educandofe.course.controller.product;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.Decoder;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.config.CompressionThresholdFilter;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.services.product.ProductService;
+
+/**
+ * Compressão negociada pelo Accept-Encoding: catálogo e categorias saem do
+ * cache já comprimidos (br ou gzip), as demais respostas JSON passam pela
+ * compressão do Tomcat a partir de 1 KB.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "management.server.port=0")
+@ActiveProfiles("test")
+class CompressedResponsesTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CompressionThresholdFilter compressionThresholdFilter;
+
+    // Sem descompressão automática: o teste vê os bytes como vieram
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void catalogIsServedPrecompressedInTheNegotiatedEncoding() throws Exception {
+        HttpResponse<byte[]> plain = get("/products", null);
+        HttpResponse<byte[]> gzip = get("/products", "gzip");
+        HttpResponse<byte[]> brotli = get("/products", "gzip, deflate, br");
+
+        assertFalse(plain.headers().firstValue("Content-Encoding").isPresent());
+        assertEquals("gzip", gzip.headers().firstValue("Content-Encoding").orElseThrow());
+        assertTrue(gzip.headers().allValues("Vary").toString().contains("Accept-Encoding"));
+        assertArrayEquals(plain.body(), gunzip(gzip.body()));
+        assertTrue(gzip.body().length < plain.body().length / 2);
+
+        if (Brotli4jLoader.isAvailable()) {
+            assertEquals("br", brotli.headers().firstValue("Content-Encoding").orElseThrow());
+            assertArrayEquals(plain.body(), Decoder.decompress(brotli.body()).getDecompressedData());
+            assertTrue(brotli.body().length <= gzip.body().length);
+        }
+
+        HttpResponse<byte[]> categories = get("/categories", "gzip");
+        assertEquals("gzip", categories.headers().firstValue("Content-Encoding").orElseThrow());
+        assertTrue(new String(gunzip(categories.body()), StandardCharsets.UTF_8).contains("\"name\""));
+    }
+
+    @Test
+    void precompressedCatalogIsRebuiltAfterWrites() throws Exception {
+        get("/products", "gzip");
+        ProductModel product = productRepository.findAll().get(0);
+        productService.update(new ProductModel(product.getId(), "Renomeado pelo teste", null, null, null));
+
+        String body = new String(gunzip(get("/products", "gzip").body()), StandardCharsets.UTF_8);
+        assertTrue(body.contains("Renomeado pelo teste"), body);
+    }
+
+    @Test
+    void otherJsonResponsesAreCompressedAboveThreshold() throws Exception {
+        HttpResponse<byte[]> page = get("/products?limit=20", "gzip");
+        assertEquals("gzip", page.headers().firstValue("Content-Encoding").orElseThrow());
+        assertTrue(new String(gunzip(page.body()), StandardCharsets.UTF_8).contains("\"content\""));
+
+        HttpResponse<byte[]> small = get("/categories/1", "gzip");
+        assertFalse(small.headers().firstValue("Content-Encoding").isPresent());
+    }
+
+    @Test
+    void precompressedResponsesAreNotBufferedAgain() throws Exception {
+        assertFalse(bufferedByFilter("/products", null));
+        assertFalse(bufferedByFilter("/categories", null));
+        assertTrue(bufferedByFilter("/products", "20"));
+        assertTrue(bufferedByFilter("/categories/1", null));
+    }
+
+    private boolean bufferedByFilter(String path, String limit) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Accept-Encoding", "gzip");
+        if (limit != null) {
+            request.addParameter("limit", limit);
+        }
+        boolean[] buffered = new boolean[1];
+        compressionThresholdFilter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> buffered[0] = res instanceof ContentCachingResponseWrapper);
+        return buffered[0];
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode(), path);
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.educandofe.course.controller.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.educandofe.course.config.CacheConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Toda escrita no catálogo (criação, edição, upload de imagem e remoção) invalida
+ * o cache: a leitura seguinte vem do banco, com o dado novo, e aparece como falha
+ * em /manager/cache/stats.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductCacheInvalidationTest {
+
+    @TempDir
+    static Path uploads;
+
+    @DynamicPropertySource
+    static void uploadProperties(DynamicPropertyRegistry registry) {
+        registry.add("uploads.dir", uploads::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void everyWriteInvalidatesTheCatalogCaches() throws Exception {
+        // Lê duas vezes: a segunda sai do cache
+        catalog();
+        JsonNode before = stats();
+        catalog();
+        assertEquals(1, hits(CacheConfig.PRODUCT_LIST_JSON, before));
+        assertEquals(0, misses(CacheConfig.PRODUCT_LIST_JSON, before));
+
+        // Criação
+        JsonNode created = json(mockMvc.perform(post("/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Produto do cache\",\"price\":10.0}"))
+            .andExpect(status().isCreated()).andReturn().getResponse().getContentAsString());
+        long id = created.get("id").asLong();
+        before = stats();
+        assertTrue(catalog().contains("Produto do cache"));
+        assertEquals(1, misses(CacheConfig.PRODUCT_LIST_JSON, before));
+
+        product(id);
+        before = stats();
+        assertEquals("Produto do cache", product(id).get("name").asText());
+        assertEquals(1, hits(CacheConfig.PRODUCTS, before));
+
+        // Edição
+        mockMvc.perform(put("/products/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Produto editado\"}"))
+            .andExpect(status().isOk());
+        before = stats();
+        assertEquals("Produto editado", product(id).get("name").asText());
+        assertTrue(catalog().contains("Produto editado"));
+        assertEquals(1, misses(CacheConfig.PRODUCTS, before));
+        assertEquals(1, misses(CacheConfig.PRODUCT_LIST_JSON, before));
+
+        // Upload de imagem
+        JsonNode upload = json(mockMvc.perform(multipart("/manager/products/{id}/upload-image", id)
+                .file(new MockMultipartFile("file", "foto.png", MediaType.IMAGE_PNG_VALUE, png())))
+            .andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+        String imageUrl = upload.get("imageUrl").asText();
+        before = stats();
+        assertEquals(imageUrl, product(id).get("imgUrl").asText());
+        assertTrue(catalog().contains(imageUrl));
+        // As versões reduzidas gravadas em segundo plano também invalidam: pode haver mais de uma falha
+        assertTrue(misses(CacheConfig.PRODUCTS, before) >= 1);
+        assertTrue(misses(CacheConfig.PRODUCT_LIST_JSON, before) >= 1);
+
+        // Remoção
+        catalog();
+        mockMvc.perform(delete("/products/{id}", id)).andExpect(status().isNoContent());
+        before = stats();
+        mockMvc.perform(get("/products/{id}", id)).andExpect(status().isNotFound());
+        assertFalse(catalog().contains("Produto editado"));
+        assertTrue(misses(CacheConfig.PRODUCT_LIST_JSON, before) >= 1);
+    }
+
+    private String catalog() throws Exception {
+        return mockMvc.perform(get("/products")).andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+    }
+
+    private JsonNode product(long id) throws Exception {
+        return json(mockMvc.perform(get("/products/{id}", id)).andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+    }
+
+    private JsonNode stats() throws Exception {
+        return json(mockMvc.perform(get("/manager/cache/stats")).andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString());
+    }
+
+    private long hits(String cache, JsonNode before) throws Exception {
+        return stats().get(cache).get("hitCount").asLong() - before.get(cache).get("hitCount").asLong();
+    }
+
+    private long misses(String cache, JsonNode before) throws Exception {
+        return stats().get(cache).get("missCount").asLong() - before.get(cache).get("missCount").asLong();
+    }
+
+    private JsonNode json(String body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+
+    private static byte[] png() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB), "png", bytes);
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,166 @@
+package com.educandofe.course.controller.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.dto.product.ProductSort;
+import com.educandofe.course.repositorys.category.CategoryRepository;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Paginação por cursor do catálogo: cada ordenação, percorrida página a página,
+ * tem de entregar todos os produtos uma única vez e na ordem do banco, inclusive
+ * com preços e nomes repetidos ou nulos.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductPageTest {
+
+    private static final String CATEGORY_NAME = "Paginação";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private CategoryModel category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.findAll().stream()
+            .filter(c -> CATEGORY_NAME.equals(c.getName()))
+            .findFirst()
+            .orElseGet(this::seed);
+    }
+
+    @Test
+    void everySortWalksTheCategoryInDatabaseOrder() throws Exception {
+        List<ProductModel> inCategory = productRepository.findAllWithCategories().stream()
+            .filter(p -> p.getCategories().stream().anyMatch(c -> c.getId().equals(category.getId())))
+            .toList();
+        assertEquals(9, inCategory.size());
+
+        for (ProductSort sort : ProductSort.values()) {
+            assertEquals(expectedIds(inCategory, sort), walk(sort, category.getId(), 2), sort.getParam());
+            // Uma linha por página: cada fronteira entre nulos e não nulos cai no fim de uma página
+            assertEquals(expectedIds(inCategory, sort), walk(sort, category.getId(), 1), sort.getParam());
+        }
+    }
+
+    @Test
+    void everySortWalksTheWholeCatalog() throws Exception {
+        List<ProductModel> all = productRepository.findAll();
+
+        for (ProductSort sort : ProductSort.values()) {
+            assertEquals(expectedIds(all, sort), walk(sort, null, 3), sort.getParam());
+        }
+    }
+
+    @Test
+    void rejectsCursorFromAnotherSortAndLimitsOutOfRange() throws Exception {
+        JsonNode first = page(ProductSort.PRICE_ASC, category.getId(), 2, null);
+        String priceCursor = first.get("nextCursor").asText();
+
+        mockMvc.perform(request(ProductSort.NAME_ASC, category.getId(), 2, priceCursor))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(request(ProductSort.PRICE_ASC, null, 0, null)).andExpect(status().isBadRequest());
+        mockMvc.perform(request(ProductSort.PRICE_ASC, null, 101, null)).andExpect(status().isBadRequest());
+        mockMvc.perform(request(ProductSort.PRICE_ASC, null, 1, null)).andExpect(status().isOk());
+        mockMvc.perform(request(ProductSort.PRICE_ASC, null, 100, null)).andExpect(status().isOk());
+    }
+
+    /**
+     * Percorre todas as páginas e devolve os ids na ordem recebida
+     */
+    private List<Long> walk(ProductSort sort, Long categoryId, int limit) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = page(sort, categoryId, limit, cursor);
+            page.get("content").forEach(product -> ids.add(product.get("id").asLong()));
+            assertTrue(page.get("size").asInt() <= limit);
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            assertTrue(ids.size() <= 1000, "paginação não termina");
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode page(ProductSort sort, Long categoryId, int limit, String cursor) throws Exception {
+        String body = mockMvc.perform(request(sort, categoryId, limit, cursor))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static MockHttpServletRequestBuilder request(ProductSort sort, Long categoryId, int limit, String cursor) {
+        MockHttpServletRequestBuilder request = get("/products")
+            .param("limit", String.valueOf(limit))
+            .param("sort", sort.getParam());
+        if (categoryId != null) {
+            request.param("category", String.valueOf(categoryId));
+        }
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        return request;
+    }
+
+    /**
+     * Ordem esperada: nulos maiores que qualquer valor (como no PostgreSQL), desempate por id
+     */
+    private static List<Long> expectedIds(List<ProductModel> products, ProductSort sort) {
+        Comparator<ProductModel> order = switch (sort.getProperty() == null ? "id" : sort.getProperty()) {
+            case "price" -> Comparator.comparing(ProductModel::getPrice, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "name" -> Comparator.comparing(ProductModel::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+            default -> (a, b) -> 0;
+        };
+        order = order.thenComparing(ProductModel::getId);
+        if (!sort.getDirection().isAscending()) {
+            order = order.reversed();
+        }
+        return products.stream().sorted(order).map(ProductModel::getId).toList();
+    }
+
+    private CategoryModel seed() {
+        CategoryModel created = categoryRepository.save(new CategoryModel(null, CATEGORY_NAME));
+        Object[][] rows = {
+            {"Caneca", 19.9}, {"Caneca", 19.9}, {"Agenda", 19.9}, {"Zíper", 5.0},
+            {null, 12.0}, {null, null}, {"Bloco", null}, {"null", 7.5}, {"", 30.0}
+        };
+        for (Object[] row : rows) {
+            ProductModel product = new ProductModel(null, (String) row[0], null, (Double) row[1], null);
+            product.getCategories().add(created);
+            productRepository.save(product);
+        }
+        // Fora da categoria: não pode aparecer no filtro
+        productRepository.save(new ProductModel(null, "Avulso", null, 1.0, null));
+        return created;
+    }
+}
@@ -0,0 +1,75 @@
+package com.educandofe.course.dto.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.educandofe.course.Model.product.ProductModel;
+
+class ProductCursorTest {
+
+    @Test
+    void roundTripsKeyAndId() {
+        ProductModel last = new ProductModel(42L, "Smart TV | 50\"", null, 2190.5, null);
+
+        ProductCursor price = ProductCursor.decode(ProductCursor.after(ProductSort.PRICE_DESC, last).encode(),
+            ProductSort.PRICE_DESC);
+        assertEquals(42L, price.getId());
+        assertEquals(2190.5, price.getPrice());
+
+        ProductCursor name = ProductCursor.decode(ProductCursor.after(ProductSort.NAME_ASC, last).encode(),
+            ProductSort.NAME_ASC);
+        assertEquals("Smart TV | 50\"", name.getName());
+
+        ProductCursor relevance = ProductCursor.decode(ProductCursor.after(ProductSort.RELEVANCE, last).encode(),
+            ProductSort.RELEVANCE);
+        assertEquals(42L, relevance.getId());
+    }
+
+    @Test
+    void keepsNullKeysApartFromTheirTextualForms() {
+        ProductModel noPrice = new ProductModel(7L, null, null, null, null);
+        ProductCursor price = ProductCursor.decode(ProductCursor.after(ProductSort.PRICE_ASC, noPrice).encode(),
+            ProductSort.PRICE_ASC);
+        assertNull(price.getPrice());
+        assertEquals(7L, price.getId());
+
+        ProductCursor noName = ProductCursor.decode(ProductCursor.after(ProductSort.NAME_DESC, noPrice).encode(),
+            ProductSort.NAME_DESC);
+        assertNull(noName.getName());
+
+        ProductModel literal = new ProductModel(8L, "null", null, null, null);
+        assertEquals("null", ProductCursor.decode(ProductCursor.after(ProductSort.NAME_ASC, literal).encode(),
+            ProductSort.NAME_ASC).getName());
+
+        ProductModel empty = new ProductModel(9L, "", null, null, null);
+        assertEquals("", ProductCursor.decode(ProductCursor.after(ProductSort.NAME_ASC, empty).encode(),
+            ProductSort.NAME_ASC).getName());
+    }
+
+    @Test
+    void rejectsMalformedCursorsAndOtherSorts() {
+        String priceCursor = ProductCursor.after(ProductSort.PRICE_ASC, new ProductModel(1L, "A", null, 10.0, null))
+            .encode();
+
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(priceCursor, ProductSort.NAME_ASC));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode("%%%", ProductSort.PRICE_ASC));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(raw("price-asc|1|=abc"),
+            ProductSort.PRICE_ASC));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(raw("price-asc|x|=1.0"),
+            ProductSort.PRICE_ASC));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(raw("price-asc|1|1.0"),
+            ProductSort.PRICE_ASC));
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(raw("price-asc|1"),
+            ProductSort.PRICE_ASC));
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
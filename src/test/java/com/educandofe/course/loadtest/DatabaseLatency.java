@@ -0,0 +1,50 @@
+package com.educandofe.course.loadtest;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Atraso fixo por comando SQL (loadtest.db-latency-ms), no lugar da ida e volta
+ * até o PostgreSQL que o H2 em memória não tem. Sem @Configuration para o
+ * component scan dos outros testes não pegar.
+ */
+class DatabaseLatency {
+
+    static final long MILLIS = Long.getLong("loadtest.db-latency-ms", 0);
+
+    @Bean
+    static BeanPostProcessor networkLatencyDataSource() {
+        QueryExecutionListener latency = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                try {
+                    Thread.sleep(MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+        };
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (MILLIS > 0 && bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource).name("latency").listener(latency).build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.educandofe.course.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.educandofe.course.loadtest.OpenModelLoadGenerator.Operation;
+import com.educandofe.course.repositorys.category.CategoryRepository;
+import com.educandofe.course.repositorys.order.OrderItemRepository;
+import com.educandofe.course.repositorys.order.OrderRepository;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.security.PasswordEncoder;
+import com.educandofe.course.security.TokenService;
+
+/**
+ * Teste de carga ponta a ponta da API REST: sobe a aplicação numa porta
+ * aleatória, popula o banco na escala pedida e dispara um mix de navegação
+ * e compra em modelo aberto (ver OpenModelLoadGenerator). Vazão e
+ * percentis por endpoint vão para loadtest.report (JSON) e para o console.
+ *
+ * Rodar com: ./mvnw test -Pbenchmark -Dtest=EndToEndLoadTest
+ *
+ * Opções (-D):
+ *   loadtest.rate=100              chegadas por segundo
+ *   loadtest.seconds=30            duração medida (depois de loadtest.warmup-seconds=5)
+ *   loadtest.products=500, loadtest.users=1000, loadtest.orders-per-user=3
+ *   loadtest.mix=products:40,product:30,orders:15,create-order:10,login:5
+ *   loadtest.db=h2 | postgres      postgres = H2 em modo de compatibilidade PostgreSQL;
+ *                                  para um PostgreSQL de verdade, -Dspring.datasource.url=...
+ *   loadtest.db-latency-ms=0       espera por comando SQL, no lugar da ida e volta até o
+ *                                  PostgreSQL (o H2 em memória responde sem rede)
+ *   loadtest.max-in-flight=2000    acima disso as chegadas são descartadas
+ *   loadtest.report=target/loadtest/report.json
+ *   spring.threads.virtual.enabled=true   requisições e @Async em virtual threads
+ *                                  (comparação lado a lado com o pool do Tomcat: ThreadingModeComparisonTest)
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    // O limite de tentativas de login derrubaria o mix de login com 429
+    "security.login-limit.email.capacity=100000000",
+    "security.login-limit.ip.capacity=100000000",
+    "logging.level.root=WARN"
+})
+@ActiveProfiles("test")
+@Import(DatabaseLatency.class)
+class EndToEndLoadTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "100"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 500);
+    private static final int USERS = Integer.getInteger("loadtest.users", 1000);
+    private static final int ORDERS_PER_USER = Integer.getInteger("loadtest.orders-per-user", 3);
+    private static final String MIX = System.getProperty("loadtest.mix",
+        "products:40,product:30,orders:15,create-order:10,login:5");
+    private static final String DATABASE = System.getProperty("loadtest.db", "h2");
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("loadtest.max-in-flight", 2000);
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/loadtest/report.json"));
+    private static final long SEED = 7L;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        if ("postgres".equals(DATABASE) && System.getProperty("spring.datasource.url") == null) {
+            registry.add("spring.datasource.url", () -> "jdbc:h2:mem:loadtest-" + System.nanoTime()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH"
+                + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    void runTrafficMix() throws Exception {
+        long seedStart = System.nanoTime();
+        LoadTestSeeder.Seeded seeded = new LoadTestSeeder(categoryRepository, productRepository, userRepository,
+            orderRepository, orderItemRepository, passwordEncoder).seed(PRODUCTS, USERS, ORDERS_PER_USER);
+        Duration seedTime = Duration.ofNanos(System.nanoTime() - seedStart);
+
+        List<String> tokens = new ArrayList<>(seeded.userIds().size());
+        for (Long userId : seeded.userIds()) {
+            tokens.add(tokenService.issue(userId));
+        }
+
+        HttpClient client = OpenModelLoadGenerator.newClient();
+        List<Operation> mix = TrafficMix.parse(MIX, "http://localhost:" + port, seeded, tokens);
+        new OpenModelLoadGenerator(client, mix, RATE, MAX_IN_FLIGHT, SEED).run(WARMUP);
+        Map<String, EndpointRecorder> results =
+            new OpenModelLoadGenerator(client, mix, RATE, MAX_IN_FLIGHT, SEED + 1).run(DURATION);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("ratePerSecond", RATE);
+        config.put("seconds", DURATION.toSeconds());
+        config.put("warmupSeconds", WARMUP.toSeconds());
+        config.put("mix", MIX);
+        config.put("database", System.getProperty("spring.datasource.url", DATABASE));
+        config.put("dbLatencyMillis", DatabaseLatency.MILLIS);
+        config.put("threads", virtualThreads ? "virtual" : "platform");
+        config.put("products", PRODUCTS);
+        config.put("users", USERS);
+        config.put("orders", seeded.orderCount());
+        config.put("seedSeconds", seedTime.toMillis() / 1000.0);
+        config.put("maxInFlight", MAX_IN_FLIGHT);
+        config.put("processors", Runtime.getRuntime().availableProcessors());
+
+        String table = LoadReport.write(REPORT, config, results);
+        System.out.printf("%.0f req/s por %d s, %d produtos, %d usuários, %d pedidos (carga inicial %.1f s), "
+            + "threads %s, %d ms por comando SQL%n", RATE, DURATION.toSeconds(), PRODUCTS, USERS, seeded.orderCount(),
+            seedTime.toMillis() / 1000.0, virtualThreads ? "virtual" : "platform", DatabaseLatency.MILLIS);
+        System.out.print(table);
+        System.out.println("Relatório: " + REPORT.toAbsolutePath());
+
+        results.forEach((name, recorder) ->
+            assertTrue(recorder.getSuccessCount() > 0, name + " sem nenhuma resposta 2xx: " + recorder.getErrorsByStatus()));
+    }
+}
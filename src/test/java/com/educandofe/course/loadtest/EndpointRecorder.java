@@ -0,0 +1,66 @@
+package com.educandofe.course.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latências e falhas de um endpoint durante a carga.
+ * Guarda cada latência (não um histograma aproximado) para percentis exatos.
+ */
+class EndpointRecorder {
+
+    private long[] latencies = new long[4096];
+    private int count;
+    private long dropped;
+    private final Map<Integer, Long> errorsByStatus = new TreeMap<>();
+    private long elapsedNanos;
+
+    synchronized void record(int status, long latencyNanos) {
+        if (status / 100 != 2) {
+            errorsByStatus.merge(status, 1L, Long::sum);
+            return;
+        }
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    synchronized void dropped() {
+        dropped++;
+    }
+
+    synchronized void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+        Arrays.sort(latencies, 0, count);
+    }
+
+    synchronized int getSuccessCount() {
+        return count;
+    }
+
+    synchronized long getDropped() {
+        return dropped;
+    }
+
+    synchronized Map<Integer, Long> getErrorsByStatus() {
+        return new TreeMap<>(errorsByStatus);
+    }
+
+    synchronized double getThroughput() {
+        return elapsedNanos == 0 ? 0 : count / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * @param percentile Entre 0 e 1 (ex.: 0.99)
+     * @return Latência em milissegundos (0 se não houve sucesso)
+     */
+    synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return latencies[Math.max(0, Math.min(count - 1, index))] / 1e6;
+    }
+}
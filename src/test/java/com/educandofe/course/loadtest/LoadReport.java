@@ -0,0 +1,116 @@
+package com.educandofe.course.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Relatório da carga: vazão e percentis por endpoint, gravado em JSON
+ * junto com a configuração usada (para comparar execuções) e devolvido
+ * também como tabela para o console.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {0.50, 0.90, 0.99, 0.999};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    private LoadReport() {
+    }
+
+    static String write(Path file, Map<String, Object> config, Map<String, EndpointRecorder> results) throws IOException {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        StringBuilder table = new StringBuilder(String.format("%-22s | %7s | %7s | %7s | %8s | %8s | %8s | %8s | %8s | %s%n",
+            "endpoint", "ok", "req/s", "drop", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms", "erros"));
+
+        for (Map.Entry<String, EndpointRecorder> entry : results.entrySet()) {
+            EndpointRecorder recorder = entry.getValue();
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", entry.getKey());
+            endpoint.putAll(summary(recorder));
+            endpoints.add(endpoint);
+
+            table.append(String.format("%-22s | %7d | %7.1f | %7d | %8.1f | %8.1f | %8.1f | %8.1f | %8.1f | %s%n",
+                entry.getKey(), recorder.getSuccessCount(), recorder.getThroughput(), recorder.getDropped(),
+                recorder.percentileMillis(0.50), recorder.percentileMillis(0.90), recorder.percentileMillis(0.99),
+                recorder.percentileMillis(0.999), recorder.percentileMillis(1.0), recorder.getErrorsByStatus()));
+        }
+
+        save(file, config, endpoints);
+        return table.toString();
+    }
+
+    /**
+     * Mesma carga em mais de uma configuração (ex.: platform e virtual): cada
+     * endpoint traz o resultado de todas lado a lado, no JSON e na tabela
+     * @param results Resultados por configuração, na ordem das colunas
+     */
+    static String writeComparison(Path file, Map<String, Object> config,
+            Map<String, Map<String, EndpointRecorder>> results) throws IOException {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        StringBuilder table = new StringBuilder(String.format("%-22s", ""));
+        results.keySet().forEach(mode -> table.append(String.format(" | %-33s", mode)));
+        table.append(String.format("%n%-22s", "endpoint"));
+        results.keySet().forEach(mode -> table.append(String.format(" | %7s %8s %8s %7s",
+            "req/s", "p50 ms", "p99 ms", "erros")));
+        table.append(System.lineSeparator());
+
+        for (String name : results.values().iterator().next().keySet()) {
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", name);
+            table.append(String.format("%-22s", name));
+            for (Map.Entry<String, Map<String, EndpointRecorder>> mode : results.entrySet()) {
+                EndpointRecorder recorder = mode.getValue().get(name);
+                endpoint.put(mode.getKey(), summary(recorder));
+                // Na tabela, erros somados aos descartes; o JSON separa os dois
+                long errors = recorder.getErrorsByStatus().values().stream().mapToLong(Long::longValue).sum();
+                table.append(String.format(" | %7.1f %8.1f %8.1f %7d", recorder.getThroughput(),
+                    recorder.percentileMillis(0.50), recorder.percentileMillis(0.99), errors + recorder.getDropped()));
+            }
+            table.append(System.lineSeparator());
+            endpoints.add(endpoint);
+        }
+
+        save(file, config, endpoints);
+        return table.toString();
+    }
+
+    private static Map<String, Object> summary(EndpointRecorder recorder) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("ok", recorder.getSuccessCount());
+        summary.put("throughputPerSecond", round(recorder.getThroughput()));
+        summary.put("dropped", recorder.getDropped());
+        summary.put("errorsByStatus", recorder.getErrorsByStatus());
+        Map<String, Object> latency = new LinkedHashMap<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            latency.put(PERCENTILE_NAMES[i], round(recorder.percentileMillis(PERCENTILES[i])));
+        }
+        latency.put("max", round(recorder.percentileMillis(1.0)));
+        summary.put("latencyMillis", latency);
+        return summary;
+    }
+
+    private static void save(Path file, Map<String, Object> config, List<Map<String, Object>> endpoints)
+            throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", OffsetDateTime.now().toString());
+        report.put("config", config);
+        report.put("endpoints", endpoints);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
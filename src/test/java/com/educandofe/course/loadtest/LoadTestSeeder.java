@@ -0,0 +1,122 @@
+package com.educandofe.course.loadtest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.Model.common.Enums.OrderStatus;
+import com.educandofe.course.Model.order.OrderItemModel;
+import com.educandofe.course.Model.order.OrderModel;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.repositorys.category.CategoryRepository;
+import com.educandofe.course.repositorys.order.OrderItemRepository;
+import com.educandofe.course.repositorys.order.OrderRepository;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.security.PasswordEncoder;
+
+/**
+ * Popula o banco no formato do TesteConfig (categorias, produtos com imagem,
+ * usuários com endereço, pedidos com itens), mas no tamanho pedido.
+ *
+ * Todos os usuários têm a mesma senha: o hash BCrypt é calculado uma vez só,
+ * senão a carga inicial levaria minutos. A semente é fixa, então a mesma
+ * escala gera sempre os mesmos dados.
+ */
+class LoadTestSeeder {
+
+    static final String PASSWORD = "Senha123";
+
+    private static final long SEED = 42L;
+    private static final int CHUNK = 500;
+    private static final String[] CATEGORY_NAMES = {"Perfumes", "Masculino", "Feminino"};
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    LoadTestSeeder(CategoryRepository categoryRepository, ProductRepository productRepository,
+                   UserRepository userRepository, OrderRepository orderRepository,
+                   OrderItemRepository orderItemRepository, PasswordEncoder passwordEncoder) {
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    Seeded seed(int productCount, int userCount, int ordersPerUser) {
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        List<CategoryModel> categories = new ArrayList<>();
+        for (String name : CATEGORY_NAMES) {
+            categories.add(new CategoryModel(null, name + " (carga)"));
+        }
+        categories = categoryRepository.saveAll(categories);
+
+        List<ProductModel> products = new ArrayList<>();
+        for (int i = 1; i <= productCount; i++) {
+            ProductModel product = new ProductModel(null, "Produto de carga " + i,
+                "Fragrância de teste de carga número " + i + ", " + (random.nextInt(5, 20) * 10) + " ml.",
+                Math.round(random.nextDouble(29.9, 399.9) * 100) / 100.0,
+                "/uploads/products/carga-" + i + ".jpg");
+            product.getCategories().add(categories.get(0));
+            product.getCategories().add(categories.get(1 + random.nextInt(2)));
+            products.add(product);
+        }
+        products = saveInChunks(products, productRepository::saveAll);
+
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<UserModel> users = new ArrayList<>();
+        for (int i = 1; i <= userCount; i++) {
+            users.add(new UserModel(null, "Cliente " + i, "cliente" + i + "@carga.com", "(11) 90000-0000",
+                passwordHash, null, "1990-01-01", "Rua de Teste", String.valueOf(i), "Centro", null,
+                "São Paulo", "SP", "01000-000"));
+        }
+        users = saveInChunks(users, userRepository::saveAll);
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0);
+        List<OrderModel> orders = new ArrayList<>();
+        List<OrderItemModel> items = new ArrayList<>();
+        OrderStatus[] statuses = OrderStatus.values();
+        for (UserModel user : users) {
+            for (int o = 0; o < ordersPerUser; o++) {
+                OrderModel order = new OrderModel(null, start.plusMinutes(random.nextInt(525_600)),
+                    statuses[random.nextInt(statuses.length)], user);
+                orders.add(order);
+                int itemCount = 1 + random.nextInt(4);
+                int first = random.nextInt(products.size());
+                for (int k = 0; k < itemCount && k < products.size(); k++) {
+                    ProductModel product = products.get((first + k) % products.size());
+                    items.add(new OrderItemModel(order, product, 1 + random.nextInt(3), product.getPrice()));
+                }
+            }
+        }
+        saveInChunks(orders, orderRepository::saveAll);
+        saveInChunks(items, orderItemRepository::saveAll);
+
+        return new Seeded(products.stream().map(ProductModel::getId).toList(),
+            users.stream().map(UserModel::getId).toList(),
+            users.stream().map(UserModel::getEmail).toList(),
+            orders.size());
+    }
+
+    private static <T> List<T> saveInChunks(List<T> entities, Function<List<T>, List<T>> saveAll) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += CHUNK) {
+            saved.addAll(saveAll.apply(entities.subList(from, Math.min(entities.size(), from + CHUNK))));
+        }
+        return saved;
+    }
+
+    record Seeded(List<Long> productIds, List<Long> userIds, List<String> emails, int orderCount) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.educandofe.course.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Gerador de carga em modelo aberto: as requisições chegam numa taxa fixa
+ * (intervalos exponenciais, como usuários independentes), sem esperar as
+ * respostas anteriores. Se o servidor fica lento, as requisições se acumulam
+ * em vez de a carga diminuir sozinha.
+ *
+ * A latência conta a partir do instante em que a requisição deveria ter
+ * saído, não de quando saiu, para atraso do próprio gerador não esconder
+ * fila (coordinated omission). Acima de maxInFlight pendentes, as chegadas
+ * são descartadas e contadas à parte.
+ */
+class OpenModelLoadGenerator {
+
+    /**
+     * Tipo de requisição do mix, com peso relativo.
+     * A função recebe um gerador aleatório para escolher produto/usuário.
+     */
+    record Operation(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+    }
+
+    private final HttpClient client;
+    private final List<Operation> mix;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+    private final long seed;
+    private final int totalWeight;
+
+    OpenModelLoadGenerator(HttpClient client, List<Operation> mix, double ratePerSecond, int maxInFlight, long seed) {
+        this.client = client;
+        this.mix = mix;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+        this.seed = seed;
+        this.totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+    }
+
+    /**
+     * Gera carga pelo tempo pedido e espera as requisições pendentes terminarem
+     * @return Resultados por operação, na ordem do mix
+     */
+    Map<String, EndpointRecorder> run(Duration duration) {
+        Map<String, EndpointRecorder> recorders = new LinkedHashMap<>();
+        for (Operation operation : mix) {
+            recorders.put(operation.name(), new EndpointRecorder());
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double meanIntervalNanos = 1_000_000_000.0 / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long next = start;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                next += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+                if (next >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = next - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = pick(random);
+                EndpointRecorder recorder = recorders.get(operation.name());
+                if (!inFlight.tryAcquire()) {
+                    recorder.dropped();
+                    continue;
+                }
+                HttpRequest request = operation.request().apply(random.split());
+                long scheduled = next;
+                executor.execute(() -> {
+                    try {
+                        int status = send(request);
+                        recorder.record(status, System.nanoTime() - scheduled);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        long elapsed = Math.max(System.nanoTime() - start, duration.toNanos());
+        recorders.values().forEach(recorder -> recorder.finish(elapsed));
+        return recorders;
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Operation operation : mix) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    static HttpClient newClient() {
+        return HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+}
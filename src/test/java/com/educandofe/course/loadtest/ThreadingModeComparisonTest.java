@@ -0,0 +1,124 @@
+package com.educandofe.course.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.educandofe.course.Main;
+import com.educandofe.course.loadtest.OpenModelLoadGenerator.Operation;
+import com.educandofe.course.repositorys.category.CategoryRepository;
+import com.educandofe.course.repositorys.order.OrderItemRepository;
+import com.educandofe.course.repositorys.order.OrderRepository;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.security.PasswordEncoder;
+import com.educandofe.course.security.TokenService;
+
+/**
+ * Pool fixo do Tomcat x virtual threads (spring.threads.virtual.enabled) na
+ * mesma carga: sobe a aplicação uma vez por modo, cada uma com o seu banco
+ * populado igual, dispara o mesmo tráfego em modelo aberto (mesma taxa e
+ * semente, ver OpenModelLoadGenerator) e grava um relatório só, com os dois
+ * modos lado a lado por endpoint.
+ *
+ * Rodar com: ./mvnw test -Pbenchmark -Dtest=ThreadingModeComparisonTest -Dloadtest.db-latency-ms=5
+ *
+ * Opções (-D), além das de escala do EndToEndLoadTest (loadtest.products, users, orders-per-user):
+ *   loadtest.rate=200              chegadas por segundo, nos dois modos
+ *   loadtest.seconds=30            duração medida (depois de loadtest.warmup-seconds=5)
+ *   loadtest.threads-mix=products:45,orders:45,login:10
+ *   loadtest.db-latency-ms=0       espera por comando SQL: sem ela o H2 em memória não
+ *                                  bloqueia, e não há o que as virtual threads ganharem
+ *   loadtest.report=target/loadtest/threads.json
+ */
+@Tag("benchmark")
+class ThreadingModeComparisonTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+    private static final int PRODUCTS = Integer.getInteger("loadtest.products", 500);
+    private static final int USERS = Integer.getInteger("loadtest.users", 1000);
+    private static final int ORDERS_PER_USER = Integer.getInteger("loadtest.orders-per-user", 3);
+    // Login é CPU (BCrypt no pool próprio): peso menor, para não medir só a fila de hash
+    private static final String MIX = System.getProperty("loadtest.threads-mix", "products:45,orders:45,login:10");
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("loadtest.max-in-flight", 2000);
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/loadtest/threads.json"));
+    private static final long SEED = 7L;
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        HttpClient client = OpenModelLoadGenerator.newClient();
+        Map<String, Map<String, EndpointRecorder>> results = new LinkedHashMap<>();
+        for (boolean virtual : new boolean[] {false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                List<Operation> mix = seed(context);
+                new OpenModelLoadGenerator(client, mix, RATE, MAX_IN_FLIGHT, SEED).run(WARMUP);
+                results.put(virtual ? "virtual" : "platform",
+                    new OpenModelLoadGenerator(client, mix, RATE, MAX_IN_FLIGHT, SEED + 1).run(DURATION));
+            }
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("ratePerSecond", RATE);
+        config.put("seconds", DURATION.toSeconds());
+        config.put("warmupSeconds", WARMUP.toSeconds());
+        config.put("mix", MIX);
+        config.put("dbLatencyMillis", DatabaseLatency.MILLIS);
+        config.put("products", PRODUCTS);
+        config.put("users", USERS);
+        config.put("ordersPerUser", ORDERS_PER_USER);
+        config.put("maxInFlight", MAX_IN_FLIGHT);
+        config.put("processors", Runtime.getRuntime().availableProcessors());
+
+        String table = LoadReport.writeComparison(REPORT, config, results);
+        System.out.printf("%.0f req/s por %d s em cada modo, %d produtos, %d usuários, %d ms por comando SQL%n",
+            RATE, DURATION.toSeconds(), PRODUCTS, USERS, DatabaseLatency.MILLIS);
+        System.out.print(table);
+        System.out.println("Relatório: " + REPORT.toAbsolutePath());
+
+        results.forEach((mode, endpoints) -> endpoints.forEach((name, recorder) ->
+            assertTrue(recorder.getSuccessCount() > 0, mode + " " + name + " sem nenhuma resposta 2xx: "
+                + recorder.getErrorsByStatus())));
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(Main.class, DatabaseLatency.class)
+            .profiles("test")
+            // Como argumentos: properties() do builder perdem para o application.properties
+            .run("--server.port=0",
+                "--management.server.port=0",
+                "--spring.threads.virtual.enabled=" + virtual,
+                // O limite de tentativas de login derrubaria o mix de login com 429
+                "--security.login-limit.email.capacity=100000000",
+                "--security.login-limit.ip.capacity=100000000",
+                "--logging.level.root=WARN");
+    }
+
+    private static List<Operation> seed(ConfigurableApplicationContext context) {
+        LoadTestSeeder.Seeded seeded = new LoadTestSeeder(context.getBean(CategoryRepository.class),
+            context.getBean(ProductRepository.class), context.getBean(UserRepository.class),
+            context.getBean(OrderRepository.class), context.getBean(OrderItemRepository.class),
+            context.getBean(PasswordEncoder.class)).seed(PRODUCTS, USERS, ORDERS_PER_USER);
+
+        TokenService tokenService = context.getBean(TokenService.class);
+        List<String> tokens = new ArrayList<>(seeded.userIds().size());
+        for (Long userId : seeded.userIds()) {
+            tokens.add(tokenService.issue(userId));
+        }
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return TrafficMix.parse(MIX, "http://localhost:" + port, seeded, tokens);
+    }
+}
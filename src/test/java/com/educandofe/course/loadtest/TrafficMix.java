@@ -0,0 +1,100 @@
+package com.educandofe.course.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+import com.educandofe.course.loadtest.OpenModelLoadGenerator.Operation;
+
+/**
+ * Operações do mix de tráfego (loadtest.mix, "nome:peso,..."), montadas
+ * sobre os dados do LoadTestSeeder.
+ */
+final class TrafficMix {
+
+    private TrafficMix() {
+    }
+
+    /**
+     * @param mix Pesos por operação, como "products:40,orders:15,login:5"
+     * @param base URL da API, como http://localhost:8080
+     * @param tokens Token de acesso de cada usuário populado
+     * @throws IllegalArgumentException se o mix citar uma operação desconhecida
+     */
+    static List<Operation> parse(String mix, String base, LoadTestSeeder.Seeded seeded, List<String> tokens) {
+        List<Long> productIds = seeded.productIds();
+        List<String> emails = seeded.emails();
+
+        Map<String, Function<SplittableRandom, HttpRequest>> available = new LinkedHashMap<>();
+        available.put("products", random -> get(base + "/products").build());
+        available.put("product", random -> get(base + "/products/" + pick(productIds, random)).build());
+        available.put("orders", random -> get(base + "/orders")
+            .header("Authorization", "Bearer " + pick(tokens, random)).build());
+        available.put("create-order", random -> post(base + "/orders", orderJson(productIds, random))
+            .header("Authorization", "Bearer " + pick(tokens, random)).build());
+        available.put("login", random -> post(base + "/auth/login",
+            "{\"email\":\"" + pick(emails, random) + "\",\"password\":\"" + LoadTestSeeder.PASSWORD + "\"}").build());
+
+        List<Operation> operations = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Function<SplittableRandom, HttpRequest> request = available.get(parts[0]);
+            if (request == null) {
+                throw new IllegalArgumentException("Operação desconhecida em loadtest.mix: " + parts[0]
+                    + " (use " + available.keySet() + ")");
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                operations.add(new Operation(label(parts[0]), weight, request));
+            }
+        }
+        return operations;
+    }
+
+    private static String label(String operation) {
+        return switch (operation) {
+            case "products" -> "GET /products";
+            case "product" -> "GET /products/{id}";
+            case "orders" -> "GET /orders";
+            case "create-order" -> "POST /orders";
+            case "login" -> "POST /auth/login";
+            default -> operation;
+        };
+    }
+
+    private static String orderJson(List<Long> productIds, SplittableRandom random) {
+        StringJoiner items = new StringJoiner(",");
+        int count = 1 + random.nextInt(3);
+        int first = random.nextInt(productIds.size());
+        for (int i = 0; i < count; i++) {
+            items.add("{\"productId\":" + productIds.get((first + i) % productIds.size())
+                + ",\"quantity\":" + (1 + random.nextInt(3)) + ",\"price\":10.0}");
+        }
+        return "{\"items\":[" + items + "],"
+            + "\"shippingAddress\":{\"recipientName\":\"Cliente\",\"phone\":\"(11) 90000-0000\",\"street\":\"Rua A\","
+            + "\"number\":\"1\",\"neighborhood\":\"Centro\",\"city\":\"São Paulo\",\"state\":\"SP\",\"zipCode\":\"01000-000\"},"
+            + "\"paymentMethod\":\"PIX\",\"shippingCost\":0.0,\"subtotal\":10.0,\"total\":10.0}";
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET();
+    }
+
+    private static HttpRequest.Builder post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+}
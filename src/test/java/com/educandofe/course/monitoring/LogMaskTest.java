@@ -0,0 +1,23 @@
+package com.educandofe.course.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class LogMaskTest {
+
+    @Test
+    void keepsOnlyFirstLetterAndDomainOfEmail() {
+        assertEquals("m***@gmail.com", LogMask.email("maria@gmail.com"));
+        assertEquals("j***@empresa.com.br", LogMask.email(" joao.silva@empresa.com.br "));
+    }
+
+    @Test
+    void hidesValuesThatAreNotEmails() {
+        assertNull(LogMask.email(null));
+        assertEquals("***", LogMask.email("sem-arroba"));
+        assertEquals("***", LogMask.email("@gmail.com"));
+        assertEquals("***", LogMask.email("maria@"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.educandofe.course.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.educandofe.course.security.PasswordEncoder;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Confere que o scrape do Prometheus traz as métricas que o painel usa:
+ * latência por método de controller, pool Hikari, Hibernate, cache,
+ * BCrypt, uploads e JVM.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class PrometheusMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PrometheusMeterRegistry registry;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    @Test
+    void scrapeCoversRequestsPoolHibernateAndCustomMeters() throws Exception {
+        mockMvc.perform(get("/products")).andExpect(status().isOk());
+        passwordEncoder.encode("Senha123");
+        uploadMetrics.record("products", 2048);
+
+        String scrape = registry.scrape();
+
+        assertContains(scrape, "http_server_requests_seconds_count{application=\"course\",error=\"none\","
+            + "exception=\"none\",handler=\"ProductController.findAll\"");
+        assertContains(scrape, "http_server_requests_seconds_bucket{");
+        assertContains(scrape, "hikaricp_connections_active{");
+        assertContains(scrape, "hikaricp_connections_pending{");
+        assertContains(scrape, "hibernate_query_executions_total{");
+        assertContains(scrape, "hibernate_entities_loads_total{");
+        assertContains(scrape, "hibernate_second_level_cache_requests_total{application=\"course\",entityManagerFactory=\"entityManagerFactory\",region=\"catalog-product\"");
+        assertContains(scrape, "cache_gets_total{application=\"course\",cache=\"productListJson\"");
+        assertContains(scrape, "security_password_hash_seconds_count{application=\"course\"} 1");
+        assertContains(scrape, "security_password_hash_wait_seconds_bucket{");
+        assertContains(scrape, "security_password_hash_refused_total{application=\"course\",reason=\"queue_full\"}");
+        assertContains(scrape, "uploads_bytes_sum{application=\"course\",target=\"products\"} 2048");
+        assertContains(scrape, "jvm_gc_memory_allocated_bytes_total{");
+        assertContains(scrape, "jvm_memory_used_bytes{");
+    }
+
+    private static void assertContains(String scrape, String expected) {
+        assertTrue(scrape.contains(expected), () -> "Métrica ausente no scrape: " + expected);
+    }
+}
@@ -0,0 +1,77 @@
+package com.educandofe.course.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.educandofe.course.Model.common.Enums.OrderStatus;
+import com.educandofe.course.dto.common.SqlQueryStatsResponse;
+import com.educandofe.course.repositorys.user.UserRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "sql.monitoring.slow-threshold-ms=0")
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class SqlStatementMonitorTest {
+
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void recordsTimingsAndLogsSlowStatementsWithMaskedBindParameters(CapturedOutput output) {
+        sqlStatementMonitor.reset();
+
+        userRepository.findByEmail("monitor@email.com");
+        userRepository.findByEmail("monitor@email.com");
+
+        List<SqlQueryStatsResponse> stats = sqlStatementMonitor.getStats(10);
+        assertTrue(stats.stream().anyMatch(s -> s.getSql().contains("tb_user") && s.getCount() == 2),
+            "consulta por email deve aparecer com 2 execuções: " + stats);
+        assertTrue(output.getOut().contains("sql.slow"));
+        assertTrue(output.getOut().contains("params=[String(17)]"), output.getOut());
+        assertFalse(output.getOut().contains("monitor@email.com"));
+    }
+
+    @Test
+    void logsTextOnlyAsTypeAndLengthUnlessEnabled() {
+        String hash = "$2a$10$" + "x".repeat(53);
+
+        assertEquals("String(60)", SqlStatementMonitor.formatValue(hash, false));
+        assertEquals("byte[3]", SqlStatementMonitor.formatValue(new byte[3], false));
+        assertEquals("42", SqlStatementMonitor.formatValue(42L, false));
+        assertEquals("true", SqlStatementMonitor.formatValue(true, false));
+        assertEquals("PAID", SqlStatementMonitor.formatValue(OrderStatus.PAID, false));
+        assertEquals("2026-01-02T03:04", SqlStatementMonitor.formatValue(LocalDateTime.of(2026, 1, 2, 3, 4), false));
+
+        assertEquals("monitor@email.com", SqlStatementMonitor.formatValue("monitor@email.com", true));
+        assertEquals("x".repeat(64) + "...", SqlStatementMonitor.formatValue("x".repeat(100), true));
+    }
+
+    @Test
+    void histogramPercentilesFollowRecordedValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(500_000);      // 0,5 ms
+        }
+        histogram.record(300_000_000);      // 300 ms
+
+        assertTrue(histogram.percentileNanos(0.50) <= 1_024_000);
+        assertTrue(histogram.percentileNanos(0.99) <= 1_024_000);
+        assertEquals(300_000_000, histogram.percentileNanos(1.0));
+        assertEquals(100, histogram.getCount());
+    }
+}
@@ -0,0 +1,69 @@
+package com.educandofe.course.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.educandofe.course.dto.common.ThreadingStatsResponse;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+
+    @Test
+    void detectsBlockingInsideSynchronizedOnVirtualThread() throws Exception {
+        VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(true, Duration.ofMillis(10));
+        pinningMonitor.startRecording();
+        try {
+            Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+            // Os eventos do JFR chegam ao stream com atraso (flush periódico)
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (pinningMonitor.getStats().getPinnedEvents() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+
+            ThreadingStatsResponse stats = pinningMonitor.getStats();
+            assertEquals("virtual", stats.getMode());
+            assertTrue(stats.getPinnedEvents() >= 1);
+            assertTrue(stats.getMaxPinnedMillis() >= 10, "duração: " + stats.getMaxPinnedMillis());
+            assertTrue(stats.getPinnedByFrame().keySet().stream()
+                .anyMatch(point -> point.endsWith("VirtualThreadPinningMonitorTest.sleepWhileHoldingMonitor")),
+                stats.getPinnedByFrame().toString());
+        } finally {
+            pinningMonitor.stop();
+        }
+    }
+
+    @Test
+    void boundsTheNumberOfTrackedPoints() {
+        VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(false, Duration.ofMillis(20));
+        for (int i = 0; i < 150; i++) {
+            pinningMonitor.recordPinned("ponto" + i, Duration.ofMillis(i));
+        }
+        pinningMonitor.recordPinned("ponto0", Duration.ofMillis(1));
+
+        ThreadingStatsResponse stats = pinningMonitor.getStats();
+        Map<String, Long> byFrame = stats.getPinnedByFrame();
+        assertEquals("platform", stats.getMode());
+        assertEquals(151, stats.getPinnedEvents());
+        assertEquals(149.0, stats.getMaxPinnedMillis());
+        assertEquals(101, byFrame.size());
+        assertEquals(50, byFrame.get("(demais pontos)"));
+        assertEquals(2, byFrame.get("ponto0"));
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(60);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
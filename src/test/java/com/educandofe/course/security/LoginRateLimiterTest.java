@@ -0,0 +1,60 @@
+package com.educandofe.course.security;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.educandofe.course.security.LoginRateLimiter.BucketPolicy;
+import com.educandofe.course.services.exception.TooManyRequestsException;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final LoginRateLimiter limiter = new LoginRateLimiter(
+        new BucketPolicy(3, Duration.ofSeconds(30)),
+        new BucketPolicy(10, Duration.ofSeconds(10)),
+        1000, Duration.ofMinutes(15), now::get);
+
+    @Test
+    void blocksEmailAfterCapacityAndReportsRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("maria@email.com", "10.0.0.1");
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+            () -> limiter.acquire("MARIA@email.com ", "10.0.0.2"));
+        assertEquals(10, ex.getRetryAfterSeconds());
+
+        // Outro email no mesmo IP continua liberado
+        assertDoesNotThrow(() -> limiter.acquire("joao@email.com", "10.0.0.1"));
+    }
+
+    @Test
+    void refillsOverTime() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("maria@email.com", "10.0.0.1");
+        }
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("maria@email.com", "10.0.0.1"));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertDoesNotThrow(() -> limiter.acquire("maria@email.com", "10.0.0.1"));
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("maria@email.com", "10.0.0.1"));
+    }
+
+    @Test
+    void blocksIpSprayingManyEmails() {
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("user" + i + "@email.com", "10.0.0.9");
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+            () -> limiter.acquire("outro@email.com", "10.0.0.9"));
+        assertEquals(1, ex.getRetryAfterSeconds());
+    }
+}
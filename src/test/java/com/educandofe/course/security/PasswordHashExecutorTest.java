@@ -0,0 +1,78 @@
+package com.educandofe.course.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.educandofe.course.dto.common.HashingStatsResponse;
+import com.educandofe.course.services.exception.ServiceUnavailableException;
+
+class PasswordHashExecutorTest {
+
+    private final PasswordHashExecutor executor = new PasswordHashExecutor(1, 1, 2000);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenThreadAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "ok";
+        }));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "queued"));
+        waitForQueueDepth(1);
+
+        long start = System.nanoTime();
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+            () -> executor.execute(() -> "rejected"));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500), "deveria falhar sem esperar");
+        assertEquals(1, ex.getRetryAfterSeconds());
+
+        release.countDown();
+        assertEquals("ok", running.get(2, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(2, TimeUnit.SECONDS));
+
+        HashingStatsResponse stats = executor.getStats();
+        assertEquals(2, stats.getCompleted());
+        assertEquals(1, stats.getRejected());
+        assertEquals(0, stats.getQueueDepth());
+    }
+
+    @Test
+    void propagatesExceptionsFromTheHash() {
+        assertThrows(IllegalArgumentException.class, () -> executor.execute(() -> {
+            throw new IllegalArgumentException("hash inválido");
+        }));
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (executor.getStats().getQueueDepth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(depth, executor.getStats().getQueueDepth());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
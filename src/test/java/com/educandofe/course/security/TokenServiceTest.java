@@ -0,0 +1,73 @@
+package com.educandofe.course.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+class TokenServiceTest {
+
+    private static final String KEY_1 = "k1:MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+    private static final String KEY_2 = "k2:ZmVkY2JhOTg3NjU0MzIxMGZlZGNiYTk4NzY1NDMyMTA=";
+    private static final Clock NOW = Clock.fixed(Instant.parse("2026-01-01T12:00:00Z"), ZoneOffset.UTC);
+
+    private final TokenService tokenService = new TokenService(KEY_1, "k1", Duration.ofHours(1), NOW);
+
+    @Test
+    void verifiesIssuedToken() {
+        String token = tokenService.issue(42L);
+
+        assertTrue(token.startsWith("k1.42."));
+        assertEquals(42L, tokenService.verify(token));
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        String token = tokenService.issue(42L);
+
+        assertNull(tokenService.verify(token.replace("k1.42.", "k1.43.")));
+        assertNull(tokenService.verify(token.substring(0, token.length() - 1) + "A"));
+        assertNull(tokenService.verify("k1.42"));
+        assertNull(tokenService.verify("lixo"));
+        assertNull(tokenService.verify(""));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = tokenService.issue(42L);
+        Clock later = Clock.offset(NOW, Duration.ofHours(1));
+
+        assertNull(new TokenService(KEY_1, "k1", Duration.ofHours(1), later).verify(token));
+    }
+
+    @Test
+    void acceptsTokensFromPreviousKeyDuringRotation() {
+        String oldToken = tokenService.issue(42L);
+        TokenService rotated = new TokenService(KEY_2 + "," + KEY_1, "k2", Duration.ofHours(1), NOW);
+
+        String newToken = rotated.issue(7L);
+        assertTrue(newToken.startsWith("k2."));
+        assertEquals(7L, rotated.verify(newToken));
+        assertEquals(42L, rotated.verify(oldToken));
+
+        // Depois de remover a chave antiga, os tokens dela deixam de valer
+        TokenService retired = new TokenService(KEY_2, "k2", Duration.ofHours(1), NOW);
+        assertNull(retired.verify(oldToken));
+        assertEquals(7L, retired.verify(newToken));
+    }
+
+    @Test
+    void rejectsShortKeysAndUnknownActiveKey() {
+        assertThrows(IllegalStateException.class,
+            () -> new TokenService("k1:c2hvcnQ=", "k1", Duration.ofHours(1), NOW));
+        assertThrows(IllegalStateException.class,
+            () -> new TokenService(KEY_1, "k9", Duration.ofHours(1), NOW));
+    }
+}
@@ -0,0 +1,107 @@
+package com.educandofe.course.services.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.security.PasswordEncoder;
+import com.educandofe.course.services.interfaces.IAuthService;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+class PasswordRehashServiceTest {
+
+    private static final BCryptPasswordEncoder WEAK = new BCryptPasswordEncoder(4);
+
+    @Autowired
+    private IAuthService authService;
+
+    @Autowired
+    private PasswordRehashService passwordRehashService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @Test
+    void loginRehashesOutdatedHashInBackground() throws Exception {
+        UserModel user = saveUser("rehash@email.com", WEAK.encode("Senha123"));
+        long outdatedBefore = passwordRehashService.getStats().getOutdatedUsers();
+
+        authService.authenticate("rehash@email.com", "Senha123");
+
+        waitUntil(() -> passwordEncoder.strengthOf(reload(user).getPassword()) == passwordEncoder.getStrength());
+        assertTrue(passwordEncoder.matches("Senha123", reload(user).getPassword()));
+        assertEquals(outdatedBefore - 1, passwordRehashService.getStats().getOutdatedUsers());
+    }
+
+    @Test
+    void rehashDoesNotOverwriteAPasswordChangedInTheMeantime() throws Exception {
+        String oldHash = WEAK.encode("Senha123");
+        UserModel user = saveUser("conflito@email.com", oldHash);
+        long conflictsBefore = passwordRehashService.getStats().getConflicts();
+
+        // Simula uma troca de senha concluída antes do rehash gravar
+        UserModel stale = reload(user);
+        String changedHash = WEAK.encode("NovaSenha456");
+        userRepository.updatePasswordIfUnchanged(user.getId(), oldHash, changedHash);
+        passwordRehashService.rehashIfNeeded(stale, "Senha123");
+
+        waitUntil(() -> passwordRehashService.getStats().getConflicts() == conflictsBefore + 1);
+        assertEquals(changedHash, reload(user).getPassword());
+    }
+
+    @Test
+    void newHashIsWrittenOutsideTheHashPool() throws Exception {
+        UserModel user = saveUser("thread@email.com", WEAK.encode("Senha123"));
+        AtomicReference<String> writerThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            writerThread.set(Thread.currentThread().getName());
+            return invocation.callRealMethod();
+        }).when(userRepository).updatePasswordIfUnchanged(any(), anyString(), anyString());
+
+        passwordRehashService.rehashIfNeeded(reload(user), "Senha123");
+
+        waitUntil(() -> writerThread.get() != null);
+        // A espera pela conexão do banco não pode ocupar uma thread do BCrypt
+        assertFalse(writerThread.get().startsWith("bcrypt-"), writerThread.get());
+    }
+
+    private UserModel saveUser(String email, String hash) {
+        UserModel user = new UserModel();
+        user.setName("Rehash");
+        user.setEmail(email);
+        user.setPassword(hash);
+        return userRepository.save(user);
+    }
+
+    private UserModel reload(UserModel user) {
+        return userRepository.findById(user.getId()).orElseThrow();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condição não atingida em 5s");
+            Thread.sleep(20);
+        }
+    }
+}
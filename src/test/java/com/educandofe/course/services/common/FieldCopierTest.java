@@ -0,0 +1,130 @@
+package com.educandofe.course.services.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.educandofe.course.Model.category.CategoryModel;
+import com.educandofe.course.Model.order.OrderModel;
+import com.educandofe.course.Model.product.ImageVariants;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.services.product.ProductService;
+import com.educandofe.course.services.user.UserService;
+
+/**
+ * Mesma semântica do updateData reflexivo que o FieldCopier substituiu: copia os
+ * campos não nulos, mantém os nulos e nunca toca nos campos ignorados. Usa os
+ * copiadores configurados nos próprios services.
+ */
+class FieldCopierTest {
+
+    @SuppressWarnings("unchecked")
+    private static final FieldCopier<ProductModel> PRODUCT_COPIER =
+        (FieldCopier<ProductModel>) ReflectionTestUtils.getField(ProductService.class, "PRODUCT_COPIER");
+
+    @SuppressWarnings("unchecked")
+    private static final FieldCopier<UserModel> USER_COPIER =
+        (FieldCopier<UserModel>) ReflectionTestUtils.getField(UserService.class, "USER_COPIER");
+
+    @Test
+    void copiesNonNullProductFieldsAndSkipsNullsAndIgnoredOnes() {
+        ProductModel target = new ProductModel(1L, "Smart TV", "55 polegadas", 2190.0, "/uploads/tv.jpg");
+        target.getCategories().add(new CategoryModel(3L, "Electronics"));
+        ImageVariants variants = new ImageVariants("/t.jpg", "/c.jpg", "/d.jpg");
+        target.setImageVariants(variants);
+        Set<?> items = (Set<?>) ReflectionTestUtils.getField(target, "items");
+
+        ProductModel source = new ProductModel(99L, "Smart TV 4K", null, 1990.0, null);
+        source.setImageVariants(new ImageVariants("/x.jpg", "/y.jpg", "/z.jpg"));
+
+        assertEquals(2, PRODUCT_COPIER.copyNonNull(source, target));
+        assertEquals("Smart TV 4K", target.getName());
+        assertEquals(1990.0, target.getPrice());
+        assertEquals("55 polegadas", target.getDescription());
+        assertEquals("/uploads/tv.jpg", target.getImgUrl());
+
+        assertEquals(1L, target.getId());
+        assertEquals(1, target.getCategories().size());
+        assertSame(variants, target.getImageVariants());
+        assertSame(items, ReflectionTestUtils.getField(target, "items"));
+
+        assertEquals(List.of("name", "description", "price", "imgUrl"), PRODUCT_COPIER.getFieldNames());
+    }
+
+    @Test
+    void copiesNonNullUserFieldsAndNeverThePassword() {
+        UserModel target = new UserModel(5L, "Maria Silva", "maria@gmail.com", "988888888", "$2a$10$hash",
+            null, null, "Rua A", "10", null, null, "Recife", "PE", "50000-000");
+        List<OrderModel> orders = target.getOrders();
+
+        UserModel source = new UserModel(77L, null, null, "977777777", "nova-senha",
+            "Loja da Maria", null, null, null, null, null, "Olinda", null, null);
+        source.setOrders(List.of(new OrderModel()));
+
+        assertEquals(3, USER_COPIER.copyNonNull(source, target));
+        assertEquals("977777777", target.getPhone());
+        assertEquals("Loja da Maria", target.getStoreName());
+        assertEquals("Olinda", target.getCity());
+        assertEquals("Maria Silva", target.getName());
+        assertEquals("maria@gmail.com", target.getEmail());
+        assertEquals("PE", target.getState());
+
+        assertEquals(5L, target.getId());
+        assertEquals("$2a$10$hash", target.getPassword());
+        assertSame(orders, target.getOrders());
+        assertFalse(USER_COPIER.getFieldNames().contains("password"));
+    }
+
+    @Test
+    void nullSourceCopiesNothing() {
+        ProductModel target = new ProductModel(1L, "Smart TV", null, 2190.0, null);
+
+        assertEquals(0, PRODUCT_COPIER.copyNonNull(null, target));
+        assertEquals(0, PRODUCT_COPIER.copyNonNull(new ProductModel(), target));
+        assertEquals("Smart TV", target.getName());
+    }
+
+    @Test
+    void failsFastOnFieldWithoutAccessors() {
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+            () -> FieldCopier.of(WithoutSetter.class));
+        assertTrue(error.getMessage().contains("WithoutSetter"), error.getMessage());
+
+        // ProductModel.items não tem getter/setter: só funciona por estar na lista de ignorados
+        assertThrows(IllegalStateException.class,
+            () -> FieldCopier.of(ProductModel.class, "id", "categories", "imageVariants"));
+
+        FieldCopier<WithoutSetter> copier = FieldCopier.of(WithoutSetter.class, "readOnly");
+        WithoutSetter target = new WithoutSetter();
+        WithoutSetter source = new WithoutSetter();
+        source.setName("novo");
+        assertEquals(1, copier.copyNonNull(source, target));
+        assertEquals("novo", target.getName());
+    }
+
+    public static class WithoutSetter {
+        private String name;
+        private String readOnly = "fixo";
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getReadOnly() {
+            return readOnly;
+        }
+    }
+}
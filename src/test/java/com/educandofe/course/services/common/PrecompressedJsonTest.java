@@ -0,0 +1,40 @@
+package com.educandofe.course.services.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+class PrecompressedJsonTest {
+
+    @Test
+    void negotiatesByQualityPreferringBrotliOnTies() {
+        assertEquals("br", PrecompressedJson.negotiate("gzip, deflate, br, zstd", true));
+        assertEquals("gzip", PrecompressedJson.negotiate("gzip, deflate, br", false));
+        assertEquals("gzip", PrecompressedJson.negotiate("br;q=0.5, gzip;q=0.8", true));
+        assertEquals("gzip", PrecompressedJson.negotiate("br;q=0, *", true));
+        assertEquals("br", PrecompressedJson.negotiate("*;q=0.3", true));
+        assertEquals("identity", PrecompressedJson.negotiate("gzip;q=0, deflate", true));
+        assertEquals("identity", PrecompressedJson.negotiate("identity", true));
+        assertEquals("identity", PrecompressedJson.negotiate(null, true));
+    }
+
+    @Test
+    void responseCarriesEncodingAndVary() {
+        byte[] identity = "[]".getBytes();
+        byte[] gzip = JsonPrecompressor.gzip(identity, 9);
+        PrecompressedJson json = new PrecompressedJson(identity, gzip, null);
+
+        ResponseEntity<byte[]> compressed = json.toResponse("br, gzip");
+        assertArrayEquals(gzip, compressed.getBody());
+        assertEquals("gzip", compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, compressed.getHeaders().getFirst(HttpHeaders.VARY));
+
+        ResponseEntity<byte[]> plain = json.toResponse(null);
+        assertArrayEquals(identity, plain.getBody());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+}
@@ -0,0 +1,146 @@
+package com.educandofe.course.services.upload;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import com.educandofe.course.monitoring.UploadMetrics;
+import com.educandofe.course.services.exception.PayloadTooLargeException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ImageStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private SimpleMeterRegistry registry;
+    private ImageStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        storage = new ImageStorageService(root, DataSize.ofKilobytes(256), new UploadMetrics(registry));
+    }
+
+    @Test
+    void streamsBodyToFinalFileWithChecksum() throws Exception {
+        byte[] image = bytes(200_000);
+
+        // Sem Content-Length (chunked): o limite é conferido durante a cópia
+        StoredImage stored = storage.store("products", new ByteArrayInputStream(image), -1, "image/png; q=1");
+
+        String sha256 = sha256(image);
+        assertEquals("/uploads/images/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/"
+            + sha256 + ".png", stored.getUrl());
+        assertEquals(root.resolve(stored.getUrl().substring("/uploads/".length())), stored.getPath());
+        assertArrayEquals(image, Files.readAllBytes(stored.getPath()));
+        assertEquals(image.length, stored.getSize());
+        assertEquals(sha256, stored.getSha256());
+        assertFalse(stored.isDeduplicated());
+        assertEquals(List.of(stored.getPath()), files(ImageStorageService.STORE));
+        assertEquals(List.of(), files(ImageStorageService.INCOMING));
+        assertEquals(image.length, registry.get("uploads.bytes").tag("target", "products").summary().totalAmount());
+    }
+
+    @Test
+    void rejectsOversizedBodyWhileStreamingAndLeavesNothingBehind() throws Exception {
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                return 7;
+            }
+        };
+
+        assertThrows(PayloadTooLargeException.class, () -> storage.store("products", endless, -1, "image/jpeg"));
+        assertEquals(List.of(), files(ImageStorageService.STORE));
+        assertEquals(List.of(), files(ImageStorageService.INCOMING));
+    }
+
+    @Test
+    void rejectsDeclaredLengthAboveLimitBeforeReading() {
+        assertThrows(PayloadTooLargeException.class, () -> storage.store("users",
+            InputStream.nullInputStream(), DataSize.ofMegabytes(1).toBytes(), "image/jpeg"));
+    }
+
+    @Test
+    void rejectsUnsupportedTypesAndEmptyBodies() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> storage.store("users",
+            new ByteArrayInputStream(bytes(10)), 10, "text/html"));
+        assertThrows(IllegalArgumentException.class, () -> storage.store("users",
+            InputStream.nullInputStream(), 0, "image/webp"));
+        assertThrows(IllegalArgumentException.class, () -> storage.store("users",
+            new MockMultipartFile("file", "pagina.html", "text/html", bytes(10))));
+        assertEquals(List.of(), files(ImageStorageService.STORE));
+    }
+
+    @Test
+    void storesMultipartFile() throws Exception {
+        byte[] image = bytes(50_000);
+
+        StoredImage stored = storage.store("users", new MockMultipartFile("file", "Foto.JPEG", "image/jpeg", image));
+
+        assertTrue(stored.getUrl().endsWith(sha256(image) + ".jpg"), stored.getUrl());
+        assertArrayEquals(image, Files.readAllBytes(stored.getPath()));
+        assertEquals(sha256(image), stored.getSha256());
+        assertEquals(List.of(stored.getPath()), files(ImageStorageService.STORE));
+    }
+
+    @Test
+    void sameContentIsStoredOnce() throws Exception {
+        byte[] image = bytes(80_000);
+
+        StoredImage first = storage.store("products", new ByteArrayInputStream(image), image.length, "image/webp");
+        StoredImage second = storage.store("users", new MockMultipartFile("file", "avatar.webp", "image/webp", image));
+
+        assertEquals(first.getUrl(), second.getUrl());
+        assertFalse(first.isDeduplicated());
+        assertTrue(second.isDeduplicated());
+        assertEquals(List.of(first.getPath()), files(ImageStorageService.STORE));
+        assertEquals(List.of(), files(ImageStorageService.INCOMING));
+        assertEquals(image.length, registry.get("uploads.deduplicated").tag("target", "users").counter().count());
+        assertEquals(first.getUrl(), storage.urlOf(storage.pathOf(first.getUrl())));
+        assertNull(storage.pathOf("/uploads/images/../../application.properties"));
+        assertNull(storage.pathOf("/uploads/products/antiga.jpg"));
+    }
+
+    private List<Path> files(String folder) throws IOException {
+        Path directory = root.resolve(folder);
+        if (!Files.exists(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
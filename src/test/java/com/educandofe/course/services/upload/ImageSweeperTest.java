@@ -0,0 +1,141 @@
+package com.educandofe.course.services.upload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.Model.user.UserModel;
+import com.educandofe.course.monitoring.UploadMetrics;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.repositorys.user.UserRepository;
+import com.educandofe.course.services.product.ProductService;
+
+/**
+ * Imagens trocadas saem do disco quando ninguém mais as referencia; as que
+ * ainda têm dono, ou foram gravadas há pouco, ficam.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ImageSweeperTest {
+
+    @TempDir
+    static Path uploads;
+
+    @DynamicPropertySource
+    static void uploadProperties(DynamicPropertyRegistry registry) {
+        registry.add("uploads.dir", uploads::toString);
+        registry.add("uploads.sweeper.grace", () -> "PT0S");
+        // Só as passadas chamadas pelo teste
+        registry.add("uploads.sweeper.interval", () -> "PT1H");
+        registry.add("uploads.sweeper.full-scan-initial-delay", () -> "PT1H");
+    }
+
+    @Autowired
+    private ImageStorageService storage;
+
+    @Autowired
+    private ImageSweeper sweeper;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    @Test
+    void replacedImageIsReclaimedOnlyWhenNoLongerReferenced() throws Exception {
+        ProductModel product = productRepository.findAll().get(0);
+        UserModel user = userRepository.findAll().get(0);
+        StoredImage shared = store(1);
+        StoredImage own = store(2);
+
+        productService.updateImage(product.getId(), shared.getUrl());
+        user.setProfileImage(shared.getUrl());
+        userRepository.save(user);
+        assertEquals(2, sweeper.referenceCount(shared.getUrl()));
+
+        // O produto troca de imagem, mas o usuário ainda usa a antiga
+        productService.updateImage(product.getId(), own.getUrl());
+        assertEquals(0, sweeper.sweepReleased());
+        assertTrue(Files.exists(shared.getPath()));
+
+        user.setProfileImage(null);
+        userRepository.save(user);
+        sweeper.release(shared.getUrl());
+        assertEquals(1, sweeper.sweepReleased());
+        assertFalse(Files.exists(shared.getPath()));
+        assertTrue(Files.exists(own.getPath()));
+    }
+
+    @Test
+    void fullScanKeepsRecentAndReferencedFiles() throws Exception {
+        ProductModel product = productRepository.findAll().get(1);
+        StoredImage referenced = store(3);
+        StoredImage orphan = store(4);
+        productService.updateImage(product.getId(), referenced.getUrl());
+        Files.writeString(orphan.getPath().resolveSibling("LEIA-ME.txt"), "não é imagem");
+
+        // Upload recém-gravado, cuja referência ainda não chegou ao banco
+        ImageSweeper patient = new ImageSweeper(storage, productRepository, userRepository, uploadMetrics,
+            Duration.ofHours(1));
+        assertEquals(0, patient.sweepAll());
+        assertTrue(Files.exists(orphan.getPath()));
+
+        assertTrue(sweeper.sweepAll() >= 1);
+        assertFalse(Files.exists(orphan.getPath()));
+        assertTrue(Files.exists(referenced.getPath()));
+        assertTrue(Files.exists(orphan.getPath().resolveSibling("LEIA-ME.txt")));
+    }
+
+    @Test
+    void reuploadWhileCountingReferencesKeepsTheFile() throws Exception {
+        StoredImage image = store(5);
+        Files.setLastModifiedTime(image.getPath(), FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        // O mesmo conteúdo é reenviado enquanto o sweeper conta as referências:
+        // o upload atualiza a data, mas a referência dele ainda não foi gravada
+        ProductRepository products = mock(ProductRepository.class);
+        when(products.countByImgUrl(anyString())).thenAnswer(invocation -> {
+            assertTrue(store(5).isDeduplicated());
+            return 0L;
+        });
+        ImageSweeper racing = new ImageSweeper(storage, products, mock(UserRepository.class), uploadMetrics,
+            Duration.ofHours(1));
+
+        racing.release(image.getUrl());
+        assertEquals(0, racing.sweepReleased());
+        assertTrue(Files.exists(image.getPath()));
+    }
+
+    private StoredImage store(int seed) throws Exception {
+        byte[] image = new byte[4096];
+        new Random(seed).nextBytes(image);
+        return storage.store("products", new ByteArrayInputStream(image), image.length, "image/png");
+    }
+}
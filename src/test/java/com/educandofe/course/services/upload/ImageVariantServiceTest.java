@@ -0,0 +1,133 @@
+package com.educandofe.course.services.upload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.educandofe.course.Model.product.ImageVariants;
+import com.educandofe.course.Model.product.ProductModel;
+import com.educandofe.course.repositorys.product.ProductRepository;
+import com.educandofe.course.services.product.ProductService;
+
+/**
+ * Versões reduzidas: geradas fora da requisição, nas larguras fixas, sem
+ * ampliar imagens pequenas e sem sobrescrever a imagem de um upload mais novo.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+class ImageVariantServiceTest {
+
+    @TempDir
+    static Path uploads;
+
+    @DynamicPropertySource
+    static void uploadProperties(DynamicPropertyRegistry registry) {
+        registry.add("uploads.dir", uploads::toString);
+    }
+
+    @Autowired
+    private ImageStorageService storage;
+
+    @Autowired
+    private ImageVariantService variantService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void generatesFixedWidthsInBackgroundAndRecordsThem() throws Exception {
+        Long productId = productRepository.findAll().get(0).getId();
+        StoredImage image = store(2000, 1500, false);
+        productService.updateImage(productId, image.getUrl());
+
+        assertTrue(variantService.submit(productId, image));
+        ImageVariants variants = awaitVariants(productId);
+
+        assertWidth(ImageVariantService.THUMBNAIL_WIDTH, 120, variants.getThumbnail());
+        assertWidth(ImageVariantService.CARD_WIDTH, 360, variants.getCard());
+        assertWidth(ImageVariantService.DETAIL_WIDTH, 768, variants.getDetail());
+        assertTrue(variants.getCard().endsWith(image.getSha256() + "-480w.jpg"), variants.getCard());
+    }
+
+    @Test
+    void smallImagesAreNotEnlargedAndTransparencyIsKept() throws Exception {
+        StoredImage image = store(600, 300, true);
+
+        ImageVariants variants = variantService.generate(image.getUrl(), image.getPath());
+
+        assertTrue(variants.getThumbnail().endsWith("-160w.png"), variants.getThumbnail());
+        assertWidth(ImageVariantService.CARD_WIDTH, 240, variants.getCard());
+        assertEquals(image.getUrl(), variants.getDetail());
+        assertTrue(ImageIO.read(storage.pathOf(variants.getThumbnail()).toFile()).getColorModel().hasAlpha());
+    }
+
+    @Test
+    void variantsOfReplacedImageAreNotApplied() throws Exception {
+        Long productId = productRepository.findAll().get(1).getId();
+        StoredImage older = store(1200, 800, false);
+        StoredImage newer = store(1300, 800, false);
+        productService.updateImage(productId, newer.getUrl());
+
+        ImageVariants stale = variantService.generate(older.getUrl(), older.getPath());
+
+        assertFalse(productService.updateImageVariants(productId, older.getUrl(), stale));
+        assertNull(productRepository.findById(productId).orElseThrow().getImageVariants());
+    }
+
+    private ImageVariants awaitVariants(Long productId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            ProductModel product = productRepository.findById(productId).orElseThrow();
+            if (product.getImageVariants() != null) {
+                return product.getImageVariants();
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Versões reduzidas não gravadas no produto " + productId);
+    }
+
+    private void assertWidth(int width, int height, String url) throws Exception {
+        assertNotNull(url);
+        BufferedImage variant = ImageIO.read(storage.pathOf(url).toFile());
+        assertEquals(width, variant.getWidth(), url);
+        assertEquals(height, variant.getHeight(), url);
+    }
+
+    private StoredImage store(int width, int height, boolean alpha) throws Exception {
+        BufferedImage image = new BufferedImage(width, height,
+            alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(200, 40, 90, alpha ? 128 : 255));
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        String format = alpha ? "png" : "jpg";
+        ImageIO.write(image, format, bytes);
+        return storage.store("products", new ByteArrayInputStream(bytes.toByteArray()), bytes.size(),
+            alpha ? "image/png" : "image/jpeg");
+    }
+}
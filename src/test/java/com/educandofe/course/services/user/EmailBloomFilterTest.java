@@ -0,0 +1,55 @@
+package com.educandofe.course.services.user;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.educandofe.course.repositorys.user.UserRepository;
+
+class EmailBloomFilterTest {
+
+    @Test
+    void answersMaybeUntilWarmedUp() {
+        EmailBloomFilter filter = new EmailBloomFilter(1000, 0.01);
+
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("qualquer@email.com"));
+    }
+
+    @Test
+    void hasNoFalseNegativesAndKeepsFalsePositivesNearTheTarget() {
+        EmailBloomFilter filter = warmedFilter(10_000, 0.01, Stream.of("seed@email.com"));
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("cliente" + i + "@email.com");
+        }
+
+        assertTrue(filter.mightContain("seed@email.com"));
+        assertTrue(filter.mightContain(" SEED@email.com"));
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("cliente" + i + "@email.com"));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("novo" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "falsos positivos: " + falsePositives);
+    }
+
+    private static EmailBloomFilter warmedFilter(long expected, double rate, Stream<String> emails) {
+        EmailBloomFilter filter = new EmailBloomFilter(expected, rate);
+        UserRepository repository = mock(UserRepository.class);
+        when(repository.streamAllEmails()).thenReturn(emails);
+        ReflectionTestUtils.setField(filter, "userRepository", repository);
+        filter.warmUp();
+        return filter;
+    }
+}